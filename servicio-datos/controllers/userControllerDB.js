@@ -137,6 +137,7 @@ class UserControllerDB {
     
     /**
      * GET /api/users?page=x&size=y
+     * GET /api/users?after=id&size=y (paginación por cursor)
      * Obtiene todos los usuarios paginados
      * @param {Object} req - Request object de Express
      * @param {Object} res - Response object de Express
@@ -151,6 +152,10 @@ class UserControllerDB {
             
             console.log(`📝 [UserControllerDB] Parámetros de paginación - Página: ${page}, Tamaño: ${size}`);
 
+            if (req.query.after !== undefined) {
+                return this._getUsersByCursor(req, res, size);
+            }
+
             // Validar parámetros de entrada
             if (page < 1) {
                 const response = ResponseModel.badRequest('El número de página debe ser mayor a 0');
@@ -185,6 +190,40 @@ class UserControllerDB {
     }
 
 
+    /**
+     * Responde una página por cursor: usuarios con ID mayor que "after", ordenados por ID
+     * @param {Object} req - Request object de Express
+     * @param {Object} res - Response object de Express
+     * @param {number} size - Tamaño de página solicitado
+     */
+    async _getUsersByCursor(req, res, size) {
+        const after = req.query.after === '' ? 0 : parseInt(req.query.after);
+
+        if (!Number.isInteger(after) || after < 0) {
+            const response = ResponseModel.badRequest('El cursor debe ser un ID de usuario válido');
+            response.log('[UserControllerDB]');
+            return response.send(res);
+        }
+
+        if (size < 1 || size > 100) {
+            const response = ResponseModel.badRequest('El tamaño de página debe estar entre 1 y 100');
+            response.log('[UserControllerDB]');
+            return response.send(res);
+        }
+
+        const cursorPage = await this.userRepository.findAfterCursor(after, size);
+
+        console.log(`✅ [UserControllerDB] Usuarios obtenidos por cursor - Después de: ${after}, Siguiente: ${cursorPage.nextCursor}`);
+
+        const response = this._createSuccessResponse(
+            'Usuarios obtenidos exitosamente',
+            cursorPage.toJSON()
+        );
+
+        return response.send(res);
+    }
+
+
     /**
      * GET /api/users/{id}
      * Obtiene un usuario específico por ID
@@ -227,6 +266,53 @@ class UserControllerDB {
     }
 
 
+    /**
+     * GET /api/users/batch?ids=1,2,3
+     * POST /api/users/batch { "ids": [1, 2, 3] }
+     * Obtiene varios usuarios por ID en una sola consulta
+     * @param {Object} req - Request object de Express
+     * @param {Object} res - Response object de Express
+     */
+    async getUsersByIds(req, res) {
+        const rawIds = req.method === 'GET'
+            ? String(req.query.ids || '').split(',').filter(id => id.trim() !== '')
+            : (req.body && Array.isArray(req.body.ids) ? req.body.ids : []);
+        const ids = [...new Set(rawIds.map(id => parseInt(id)))];
+
+        console.log(`🚀 [UserControllerDB] Obteniendo ${ids.length} usuarios por ID`);
+
+        try {
+            if (ids.length === 0 || ids.some(id => !Number.isInteger(id) || id < 1)) {
+                const response = ResponseModel.badRequest('Debe enviar una lista de IDs enteros positivos');
+                response.log('[UserControllerDB]');
+                return response.send(res);
+            }
+
+            if (ids.length > 100) {
+                const response = ResponseModel.badRequest('Se pueden consultar como máximo 100 usuarios por petición');
+                response.log('[UserControllerDB]');
+                return response.send(res);
+            }
+
+            const users = await this.userRepository.findByIds(ids);
+
+            console.log(`✅ [UserControllerDB] Usuarios obtenidos exitosamente: ${users.length} de ${ids.length}`);
+
+            const response = this._createSuccessResponse(
+                'Usuarios obtenidos exitosamente',
+                users.map(user => user.toJSON())
+            );
+
+            return response.send(res);
+
+        } catch (error) {
+            const response = this._handleControllerError(error);
+            response.log('[UserControllerDB]');
+            return response.send(res);
+        }
+    }
+
+
     /**
      * GET /api/users/email/{email}
      * Obtiene un usuario específico por email
@@ -383,6 +469,44 @@ class UserControllerDB {
         }
     }
 
+    /**
+     * PATCH /api/users/{id}/password_hash
+     * Reemplaza el hash de la contraseña por otro de la misma contraseña (migración de algoritmo
+     * o costo). Solo se aplica si el hash guardado sigue siendo currentPassword; si no, 409.
+     * @param {Object} req - Request object de Express
+     * @param {Object} res - Response object de Express
+     */
+    async updatePasswordHash(req, res) {
+        const userId = parseInt(req.params.id);
+
+        try {
+            const { currentPassword, password } = req.body;
+
+            if (!currentPassword || !password) {
+                const response = ResponseModel.badRequest('El hash actual y el nuevo son obligatorios');
+                response.log('[UserControllerDB] Hash actual o nuevo no presentes');
+                return response.send(res);
+            }
+
+            const isUpdated = await this.userRepository.updatePasswordHash(userId, currentPassword, password);
+
+            if (!isUpdated) {
+                const response = ResponseModel.conflict('El hash de la contraseña ya no coincide');
+                console.log(`⚠️ [UserControllerDB] Hash de contraseña no migrado para el usuario: ${userId}`);
+                return response.send(res);
+            }
+
+            const response = this._createSuccessResponse('Hash de contraseña actualizado');
+            console.log(`✅ [UserControllerDB] Hash de contraseña migrado para el usuario: ${userId}`);
+            return response.send(res);
+
+        } catch (error) {
+            const response = this._handleControllerError(error);
+            response.log('[UserControllerDB]');
+            return response.send(res);
+        }
+    }
+
     /**
      * PATCH /api/users/{id}/account_status
      * Verifica un usuario con estado PENDING_VALIDATION
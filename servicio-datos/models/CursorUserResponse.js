@@ -0,0 +1,43 @@
+/**
+ * Modelo para respuestas paginadas por cursor (keyset) de usuarios
+ */
+class CursorUserResponse {
+    /**
+     * Constructor del modelo
+     * @param {number} pageSize - Tamaño de página solicitado
+     * @param {Array} users - Lista de usuarios de la página, ordenados por ID ascendente
+     * @param {number|null} nextCursor - ID del último usuario de la página si hay más resultados, o null
+     */
+    constructor(pageSize, users, nextCursor) {
+        this.pageSize = pageSize;
+        this.users = users;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Crea la página a partir de size + 1 filas: la fila extra solo indica que hay más resultados
+     * @param {Array} rows - Usuarios obtenidos (hasta pageSize + 1)
+     * @param {number} pageSize - Tamaño de página solicitado
+     * @returns {CursorUserResponse} Instancia del modelo
+     */
+    static fromRows(rows, pageSize) {
+        const hasMore = rows.length > pageSize;
+        const users = hasMore ? rows.slice(0, pageSize) : rows;
+        const nextCursor = hasMore ? users[users.length - 1].id : null;
+        return new CursorUserResponse(pageSize, users, nextCursor);
+    }
+
+    /**
+     * Convierte el modelo a un objeto plano para respuesta JSON
+     * @returns {Object} Objeto plano con los datos de la página
+     */
+    toJSON() {
+        return {
+            pageSize: this.pageSize,
+            users: this.users,
+            nextCursor: this.nextCursor
+        };
+    }
+}
+
+module.exports = CursorUserResponse;
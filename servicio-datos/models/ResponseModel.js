@@ -1,3 +1,9 @@
+const { Encoder } = require('cbor-x');
+
+const CBOR_TYPE = 'application/cbor';
+// Sin la extensión de records de cbor-x: mapas CBOR estándar que cualquier decodificador entiende
+const cborEncoder = new Encoder({ useRecords: false });
+
 class ResponseModel {
     constructor(success, message, data = null, error = null, statusCode = 200) {
         this.success = success;
@@ -53,15 +59,17 @@ class ResponseModel {
         return new ResponseModel(false, message, null, { type: 'EMAIL_DUPLICATE' }, 409);
     }
 
-    // Método para enviar la respuesta HTTP
+    // Método para enviar la respuesta HTTP.
+    // Las respuestas exitosas se envían en CBOR si el cliente lo prefiere en su Accept
+    // (servicio-usuario con data-service.http.encoding=cbor); los errores siempre van en JSON.
     send(res) {
-        return res.status(this.statusCode).json({
-            success: this.success,
-            message: this.message,
-            data: this.data,
-            error: this.error,
-            timestamp: this.timestamp
-        });
+        const body = this.toJSON();
+        if (this.success && res.req.accepts(['application/json', CBOR_TYPE]) === CBOR_TYPE) {
+            // Ida y vuelta por JSON para enviar las fechas como texto ISO, igual que en JSON
+            const payload = cborEncoder.encode(JSON.parse(JSON.stringify(body)));
+            return res.status(this.statusCode).type(CBOR_TYPE).send(payload);
+        }
+        return res.status(this.statusCode).json(body);
     }
 
     // Método para convertir a objeto plano
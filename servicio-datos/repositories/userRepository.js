@@ -151,6 +151,28 @@ class UserRepository {
     }
 
 
+    /**
+     * READ - Obtener varios usuarios por ID en una sola consulta
+     * @param {number[]} ids - IDs de los usuarios a consultar
+     * @returns {Promise<UserResponse[]>} Usuarios encontrados (los IDs inexistentes o eliminados se omiten)
+     * @throws {Error} Si hay un error en la base de datos
+     */
+    async findByIds(ids) {
+        try {
+            const query = `
+                SELECT * FROM users 
+                WHERE id = ANY($1::int[]) AND account_status != 'DELETED'
+            `;
+
+            const result = await pool.query(query, [ids]);
+
+            return result.rows.map(row => UserResponse.fromUser(User.fromDatabase(row)));
+        } catch (error) {
+            throw new Error(`Error finding users by IDs: ${error.message}`);
+        }
+    }
+
+
     // READ - Obtener usuario por ID
     async findByIdAndEmail(id, email) {
         try {
@@ -214,6 +236,40 @@ class UserRepository {
     }
 
 
+    /**
+     * READ - Obtener usuarios por cursor (keyset)
+     *
+     * Usa "WHERE id > cursor ORDER BY id LIMIT n", que recorre el índice de la llave primaria
+     * desde el cursor: el costo depende solo del tamaño de página y no de cuántas páginas se
+     * hayan recorrido (a diferencia de OFFSET, que lee y descarta todas las filas anteriores).
+     * Tampoco cuenta el total de usuarios en cada llamada.
+     * @param {number} afterId - ID del último usuario de la página anterior (0 para la primera página)
+     * @param {number} size - Tamaño de cada página
+     * @returns {Promise<CursorUserResponse>} Página de usuarios con el cursor siguiente
+     * @throws {Error} Si hay un error en la base de datos
+     */
+    async findAfterCursor(afterId = 0, size = 10) {
+        try {
+            const validatedSize = Math.min(Math.max(1, size), 100); // Entre 1 y 100
+            const query = `
+                SELECT * FROM users 
+                WHERE id > $1 AND account_status != 'DELETED'
+                ORDER BY id ASC
+                LIMIT $2
+            `;
+
+            // Se pide una fila extra para saber si existe una página siguiente
+            const result = await pool.query(query, [afterId, validatedSize + 1]);
+            const users = result.rows.map(row => UserResponse.fromUser(User.fromDatabase(row)));
+
+            const CursorUserResponse = require('../models/CursorUserResponse');
+            return CursorUserResponse.fromRows(users, validatedSize);
+        } catch (error) {
+            throw new Error(`Error finding users by cursor: ${error.message}`);
+        }
+    }
+
+
     /**
      * Valida parámetros de paginación y calcula offset
      * @param {number} page - Página solicitada
@@ -417,6 +473,39 @@ class UserRepository {
         }
     }
 
+    /**
+     * UPDATE - Reemplazar el hash de la contraseña solo si no ha cambiado (compare-and-set).
+     * Lo usa el servicio de usuarios para migrar hashes a otro algoritmo o costo tras un login.
+     * @param {number} id - ID del usuario
+     * @param {string} currentPassword - Hash que debe estar guardado para aplicar el cambio
+     * @param {string} password - Hash nuevo
+     * @returns {Promise<Boolean>} true si se reemplazó; false si el usuario no existe o el hash ya era otro
+     * @throws {Error} Si hay un error en la base de datos
+     */
+    async updatePasswordHash(id, currentPassword, password) {
+        try {
+            const query = `
+            UPDATE users
+            SET password = $1, updated_at = CURRENT_TIMESTAMP
+            WHERE id = $2 AND password = $3 AND account_status != 'DELETED'
+        `;
+
+            const result = await pool.query(query, [password, id, currentPassword]);
+
+            if (result.rowCount === 0) {
+                console.log(`⚠️ [UserRepository] Hash de contraseña no reemplazado para el usuario ${id}: no existe o ya cambió`);
+                return false;
+            }
+
+            console.log(`✅ [UserRepository] Hash de contraseña migrado para el usuario con ID: ${id}`);
+            return true;
+
+        } catch (error) {
+            console.error(`❌ [UserRepository] Error migrando hash de contraseña: ${error.message}`);
+            throw this._handleDatabaseError(error, 'actualizando');
+        }
+    }
+
     // DELETE - Eliminación lógica (cambia account_status a DELETED)
     async delete(id) {
         try {
@@ -23,7 +23,7 @@ router.put('/:id', userController.updateUser.bind(userController));
 
 /**
  * @route   GET /api/users
- * @desc    Obtener todos los usuarios paginados
+ * @desc    Obtener todos los usuarios paginados (?page=&size=) o por cursor (?after=&size=)
  * @access  Public
  */
 router.get('/', userController.getAllUsersPaginated.bind(userController));
@@ -35,6 +35,20 @@ router.get('/', userController.getAllUsersPaginated.bind(userController));
  */
 router.get('/email', (req, res) => userController.getUserByEmail(req, res));
 
+/**
+ * @route   GET /api/users/batch?ids=1,2,3
+ * @desc    Obtener varios usuarios por ID (máximo 100). Debe ir antes de /:id
+ * @access  Public
+ */
+router.get('/batch', userController.getUsersByIds.bind(userController));
+
+/**
+ * @route   POST /api/users/batch
+ * @desc    Obtener varios usuarios por ID enviando { "ids": [...] } (máximo 100)
+ * @access  Public
+ */
+router.post('/batch', userController.getUsersByIds.bind(userController));
+
 /**
  * @route   GET /api/users/:id
  * @desc    Obtener un usuario específico por ID
@@ -56,6 +70,13 @@ router.delete('/:id', userController.deleteUser.bind(userController));
  */
 router.patch('/:id/password', userController.updatePassword.bind(userController));
 
+/**
+ * @route   PATCH /api/users/:id/password_hash
+ * @desc    Migrar el hash de la contraseña a otro algoritmo o costo (compare-and-set)
+ * @access  Public
+ */
+router.patch('/:id/password_hash', userController.updatePasswordHash.bind(userController));
+
 /**
  * @route   PATCH /api/users/:id/account_status
  * @desc    Verificar el usuario
@@ -0,0 +1,56 @@
+package com.uniquindio.userservice.benchmark;
+
+import com.uniquindio.userservice.util.SigningAlgorithm;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+
+/**
+ * Llaves de prueba para los benchmarks de firma y parseo, generadas al vuelo para no depender
+ * de archivos del repositorio.
+ */
+final class BenchmarkKeys {
+
+    private static final Base64.Encoder PEM_BASE64 = Base64.getMimeEncoder(64, "\n".getBytes(StandardCharsets.US_ASCII));
+
+    private BenchmarkKeys() {
+    }
+
+    static KeyPair generate(SigningAlgorithm algorithm) throws GeneralSecurityException {
+        KeyPairGenerator generator;
+        switch (algorithm) {
+            case RS256 -> {
+                generator = KeyPairGenerator.getInstance("RSA");
+                generator.initialize(2048);
+            }
+            case ES256 -> {
+                generator = KeyPairGenerator.getInstance("EC");
+                generator.initialize(new ECGenParameterSpec("secp256r1"));
+            }
+            default -> generator = KeyPairGenerator.getInstance("Ed25519");
+        }
+        return generator.generateKeyPair();
+    }
+
+    /**
+     * Escribe el par en {@code directory} como {@code <prefix>-private-key.pem} y
+     * {@code <prefix>-public-key.pem}, en el formato que lee {@code KeyUtils}.
+     */
+    static void writePem(KeyPair keys, Path directory, String prefix) throws IOException {
+        Files.writeString(directory.resolve(prefix + "-private-key.pem"),
+                pem("PRIVATE KEY", keys.getPrivate().getEncoded()));
+        Files.writeString(directory.resolve(prefix + "-public-key.pem"),
+                pem("PUBLIC KEY", keys.getPublic().getEncoded()));
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n" + PEM_BASE64.encodeToString(der) + "\n-----END " + type + "-----\n";
+    }
+}
@@ -0,0 +1,100 @@
+package com.uniquindio.userservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.uniquindio.userservice.config.DataServiceHttpProperties.Encoding;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Servicio de datos de prueba para los benchmarks: responde a cualquier {@code GET} con el mismo
+ * sobre, codificado en CBOR, Smile o JSON según el {@code Accept} de la petición, como hace
+ * {@code ResponseModel.send} en servicio-datos.
+ */
+final class DataServiceStub implements AutoCloseable {
+
+    static {
+        // Sin Nagle: cabeceras y cuerpo van en escrituras separadas y el ACK retrasado añadiría ~40 ms
+        System.setProperty("sun.net.httpserver.nodelay", "true");
+    }
+
+    private final HttpServer server;
+    private final Map<Encoding, byte[]> bodies = new EnumMap<>(Encoding.class);
+
+    private DataServiceStub(Object envelope) throws IOException {
+        bodies.put(Encoding.JSON, mapper(new ObjectMapper()).writeValueAsBytes(envelope));
+        bodies.put(Encoding.CBOR, mapper(new CBORMapper()).writeValueAsBytes(envelope));
+        bodies.put(Encoding.SMILE, mapper(new SmileMapper()).writeValueAsBytes(envelope));
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::respond);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+    }
+
+    /**
+     * Arranca el servicio en un puerto libre.
+     *
+     * @param envelope sobre {@code ApiDBResponse} (o un mapa con sus campos) que se devuelve siempre
+     */
+    static DataServiceStub start(Object envelope) throws IOException {
+        return new DataServiceStub(envelope);
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Cuerpo que se envía para el formato dado.
+     */
+    byte[] body(Encoding encoding) {
+        return bodies.get(encoding);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void respond(HttpExchange exchange) throws IOException {
+        Encoding encoding = negotiate(exchange.getRequestHeaders().getFirst(HttpHeaders.ACCEPT));
+        byte[] body = bodies.get(encoding);
+        exchange.getResponseHeaders().set(HttpHeaders.CONTENT_TYPE, encoding.mediaType().toString());
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * El primer formato binario presente en {@code Accept}; si no hay ninguno, JSON.
+     */
+    private static Encoding negotiate(String accept) {
+        if (accept != null) {
+            for (String range : accept.split(",")) {
+                String type = range.split(";", 2)[0].trim();
+                for (Encoding candidate : Encoding.values()) {
+                    if (candidate != Encoding.JSON && candidate.mediaType().toString().equals(type)) {
+                        return candidate;
+                    }
+                }
+            }
+        }
+        return Encoding.JSON;
+    }
+
+    private static ObjectMapper mapper(ObjectMapper mapper) {
+        return mapper.registerModule(new JavaTimeModule());
+    }
+}
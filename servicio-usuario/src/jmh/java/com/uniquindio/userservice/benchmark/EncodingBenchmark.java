@@ -0,0 +1,116 @@
+package com.uniquindio.userservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.uniquindio.userservice.client.ApiEnvelopeDecoder;
+import com.uniquindio.userservice.config.DataServiceHttpProperties.Encoding;
+import com.uniquindio.userservice.dto.ApiDBResponse;
+import com.uniquindio.userservice.dto.PaginatedUserResponse;
+import com.uniquindio.userservice.dto.UserAccountStatusEnum;
+import com.uniquindio.userservice.dto.UserResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara JSON, CBOR y Smile en las respuestas del servicio de datos: tamaño del cuerpo (se
+ * imprime al arrancar cada combinación), decodificación en memoria con {@link ApiEnvelopeDecoder}
+ * y una petición completa con {@code WebClient} contra {@link DataServiceStub}, que elige el
+ * formato por el {@code Accept} como servicio-datos.
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="EncodingBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncodingBenchmark {
+
+    private static final ResolvableType PAGE_TYPE = ResolvableType.forType(
+            new ParameterizedTypeReference<ApiDBResponse<PaginatedUserResponse>>() {});
+    private static final ParameterizedTypeReference<ApiDBResponse<PaginatedUserResponse>> PAGE =
+            new ParameterizedTypeReference<>() {};
+
+    @Param({"JSON", "CBOR", "SMILE"})
+    public Encoding encoding;
+
+    @Param({"10", "100"})
+    public int usersPerPage;
+
+    private DataServiceStub stub;
+    private ApiEnvelopeDecoder decoder;
+    private WebClient webClient;
+    private byte[] body;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        List<UserResponse> users = new ArrayList<>(usersPerPage);
+        for (int i = 1; i <= usersPerPage; i++) {
+            users.add(new UserResponse(i, "User Number " + i, "user" + i + "@example.com", "3001114444",
+                    UserAccountStatusEnum.VERIFIED));
+        }
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("success", true);
+        envelope.put("message", "Usuarios obtenidos exitosamente");
+        envelope.put("data", new PaginatedUserResponse(1000, 1000 / usersPerPage, 1, usersPerPage, users));
+        envelope.put("error", null);
+        envelope.put("timestamp", "2025-01-15T10:30:00.000Z");
+
+        stub = DataServiceStub.start(envelope);
+        body = stub.body(encoding);
+        System.out.printf("%n# %s, %d usuarios: %d bytes (JSON: %d bytes)%n",
+                encoding, usersPerPage, body.length, stub.body(Encoding.JSON).length);
+
+        decoder = new ApiEnvelopeDecoder(mapper(), encoding.mediaType());
+        webClient = WebClient.builder()
+                .baseUrl(stub.baseUrl())
+                .defaultHeader(HttpHeaders.ACCEPT, encoding.acceptHeader())
+                .codecs(codecs -> codecs.customCodecs().registerWithDefaultConfig(decoder))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        stub.close();
+    }
+
+    @Benchmark
+    public Object decode() {
+        return decoder.decode(DefaultDataBufferFactory.sharedInstance.wrap(body), PAGE_TYPE,
+                encoding.mediaType(), null);
+    }
+
+    @Benchmark
+    public Object roundTrip() {
+        return webClient.get()
+                .uri("/api/v1/users?page=1&size={size}", usersPerPage)
+                .retrieve()
+                .bodyToMono(PAGE)
+                .block();
+    }
+
+    private ObjectMapper mapper() {
+        ObjectMapper mapper = switch (encoding) {
+            case JSON -> new ObjectMapper();
+            case CBOR -> new CBORMapper();
+            case SMILE -> new SmileMapper();
+        };
+        return mapper.registerModule(new JavaTimeModule());
+    }
+}
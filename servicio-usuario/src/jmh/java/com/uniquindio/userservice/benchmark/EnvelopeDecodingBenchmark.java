@@ -0,0 +1,108 @@
+package com.uniquindio.userservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.uniquindio.userservice.client.ApiEnvelopeDecoder;
+import com.uniquindio.userservice.dto.ApiDBResponse;
+import com.uniquindio.userservice.dto.PaginatedUserResponse;
+import com.uniquindio.userservice.dto.UserAccountStatusEnum;
+import com.uniquindio.userservice.dto.UserResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara el decodificador JSON genérico de WebFlux ({@link Jackson2JsonDecoder}, que enlaza el
+ * sobre completo) con {@link ApiEnvelopeDecoder} al leer un usuario ({@code genericUser},
+ * {@code envelopeUser}) y una página de usuarios ({@code generic}, {@code envelope}) envueltos en
+ * {@code ApiDBResponse}. Los benchmarks de un usuario no dependen de {@code usersPerPage}. Los campos {@code message}, {@code error} y {@code timestamp} del sobre
+ * se rellenan con un tamaño similar al de una respuesta de error del servicio de datos.
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="EnvelopeDecodingBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EnvelopeDecodingBenchmark {
+
+    private static final ResolvableType PAGE_TYPE = ResolvableType.forType(
+            new ParameterizedTypeReference<ApiDBResponse<PaginatedUserResponse>>() {});
+    private static final ResolvableType USER_TYPE = ResolvableType.forType(
+            new ParameterizedTypeReference<ApiDBResponse<UserResponse>>() {});
+
+    @Param({"10", "100", "1000"})
+    public int usersPerPage;
+
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+    private Jackson2JsonDecoder genericDecoder;
+    private ApiEnvelopeDecoder envelopeDecoder;
+    private byte[] body;
+    private byte[] userBody;
+
+    @Setup(Level.Trial)
+    public void buildBody() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        genericDecoder = new Jackson2JsonDecoder(objectMapper);
+        envelopeDecoder = new ApiEnvelopeDecoder(objectMapper);
+
+        List<UserResponse> users = new ArrayList<>(usersPerPage);
+        for (int i = 1; i <= usersPerPage; i++) {
+            users.add(new UserResponse(i, "User Number " + i, "user" + i + "@example.com", "3001114444",
+                    UserAccountStatusEnum.VERIFIED));
+        }
+        body = objectMapper.writeValueAsBytes(envelope("Usuarios obtenidos exitosamente",
+                new PaginatedUserResponse(1000, Math.max(1, 1000 / usersPerPage), 1, usersPerPage, users)));
+        userBody = objectMapper.writeValueAsBytes(envelope("Usuario obtenido exitosamente", users.get(0)));
+    }
+
+    private static Map<String, Object> envelope(String message, Object data) {
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("success", true);
+        envelope.put("message", message);
+        envelope.put("data", data);
+        envelope.put("error", Map.of("type", "NONE", "details", List.of("a", "b", "c")));
+        envelope.put("timestamp", "2025-01-15T10:30:00.000Z");
+        return envelope;
+    }
+
+    @Benchmark
+    public void generic(Blackhole blackhole) {
+        blackhole.consume(genericDecoder.decode(buffer(), PAGE_TYPE, MediaType.APPLICATION_JSON, null));
+    }
+
+    @Benchmark
+    public void envelope(Blackhole blackhole) {
+        blackhole.consume(envelopeDecoder.decode(buffer(), PAGE_TYPE, MediaType.APPLICATION_JSON, null));
+    }
+
+    @Benchmark
+    public void genericUser(Blackhole blackhole) {
+        blackhole.consume(genericDecoder.decode(bufferFactory.wrap(userBody), USER_TYPE, MediaType.APPLICATION_JSON, null));
+    }
+
+    @Benchmark
+    public void envelopeUser(Blackhole blackhole) {
+        blackhole.consume(envelopeDecoder.decode(bufferFactory.wrap(userBody), USER_TYPE, MediaType.APPLICATION_JSON, null));
+    }
+
+    private DataBuffer buffer() {
+        return bufferFactory.wrap(body);
+    }
+}
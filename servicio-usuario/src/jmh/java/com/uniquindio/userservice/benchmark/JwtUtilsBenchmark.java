@@ -0,0 +1,100 @@
+package com.uniquindio.userservice.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.uniquindio.userservice.config.JwtClaimsCacheConfig;
+import com.uniquindio.userservice.config.JwtClaimsCacheProperties;
+import com.uniquindio.userservice.config.JwtKeyProperties;
+import com.uniquindio.userservice.util.JwtUtils;
+import com.uniquindio.userservice.util.KeyRing;
+import com.uniquindio.userservice.util.SigningAlgorithm;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Emisión y validación de tokens con {@link JwtUtils} tal como lo arma Spring: {@link KeyRing}
+ * leyendo las llaves de un directorio y la caché de {@link JwtClaimsCacheConfig}.
+ *
+ * <ul>
+ *   <li>{@code generateToken}: firma de un token de acceso (login y renovación).</li>
+ *   <li>{@code validateCached}: validación de un token ya visto, la de casi todas las peticiones.</li>
+ *   <li>{@code validateUncached}: primera validación de un token, con verificación de firma.
+ *       Incluye vaciar la caché, que con una sola entrada es despreciable.</li>
+ * </ul>
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="JwtUtilsBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+    @Param({"RS256", "ES256", "EDDSA"})
+    public SigningAlgorithm algorithm;
+
+    private Path directory;
+    private KeyRing keyRing;
+    private JwtUtils jwtUtils;
+    private Cache<String, Claims> uncachedClaims;
+    private JwtUtils uncachedJwtUtils;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("jwt-keys");
+        BenchmarkKeys.writePem(BenchmarkKeys.generate(algorithm), directory, "bench");
+        keyRing = new KeyRing(new JwtKeyProperties(directory, algorithm, false,
+                Duration.ofMillis(500), Duration.ofMinutes(5)), new ObjectMapper());
+
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        JwtClaimsCacheConfig cacheConfig = new JwtClaimsCacheConfig();
+        JwtClaimsCacheProperties cacheProperties = new JwtClaimsCacheProperties(10_000, Duration.ofMinutes(5));
+        jwtUtils = new JwtUtils(keyRing, cacheConfig.jwtClaimsCache(cacheProperties, meterRegistry), meterRegistry);
+        uncachedClaims = cacheConfig.jwtClaimsCache(cacheProperties, new SimpleMeterRegistry());
+        uncachedJwtUtils = new JwtUtils(keyRing, uncachedClaims, new SimpleMeterRegistry());
+
+        token = jwtUtils.generateToken(42, "user42@example.com");
+        jwtUtils.validateToken(token);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        keyRing.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtils.generateToken(42, "user42@example.com");
+    }
+
+    @Benchmark
+    public Claims validateCached() {
+        return jwtUtils.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims validateUncached() {
+        uncachedClaims.invalidateAll();
+        return uncachedJwtUtils.validateToken(token);
+    }
+}
@@ -0,0 +1,63 @@
+package com.uniquindio.userservice.benchmark;
+
+import com.uniquindio.userservice.util.KeyUtils;
+import com.uniquindio.userservice.util.SigningAlgorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lectura de llaves PEM con {@link KeyUtils}, como la hace {@code KeyRing} al arrancar y en cada
+ * rotación. Incluye leer el archivo (ya en la caché del sistema operativo) y probar las
+ * {@code KeyFactory} en orden RSA, EC, EdDSA hasta dar con la del tipo de llave.
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="KeyParsingBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeyParsingBenchmark {
+
+    @Param({"RS256", "ES256", "EDDSA"})
+    public SigningAlgorithm algorithm;
+
+    private Path directory;
+    private Path privateKey;
+    private Path publicKey;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        directory = Files.createTempDirectory("pem-keys");
+        BenchmarkKeys.writePem(BenchmarkKeys.generate(algorithm), directory, "bench");
+        privateKey = directory.resolve("bench-private-key.pem");
+        publicKey = directory.resolve("bench-public-key.pem");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.delete(privateKey);
+        Files.delete(publicKey);
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    public PrivateKey readPrivateKey() throws IOException, GeneralSecurityException {
+        return KeyUtils.readPrivateKey(privateKey);
+    }
+
+    @Benchmark
+    public PublicKey readPublicKey() throws IOException, GeneralSecurityException {
+        return KeyUtils.readPublicKey(publicKey);
+    }
+}
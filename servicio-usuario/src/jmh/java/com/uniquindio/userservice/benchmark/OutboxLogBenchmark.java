@@ -0,0 +1,137 @@
+package com.uniquindio.userservice.benchmark;
+
+import com.uniquindio.userservice.util.OutboxLog;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Costo del {@link OutboxLog} de eventos de usuario, sin Kafka.
+ *
+ * <ul>
+ *   <li>{@code append}: latencia de guardar un evento, la que se suma a la petición. Con
+ *       {@code forceOnAppend=true} incluye el {@code msync} de cada registro. Cada 4096 registros
+ *       se confirma lo escrito para que los segmentos se borren como con el relay.</li>
+ *   <li>{@code drain}: registros por segundo que el relay puede leer y validar (CRC) en lotes
+ *       de 500, sobre un log ya lleno. No incluye la confirmación, que es un {@code msync} del
+ *       archivo de offset por lote.</li>
+ * </ul>
+ *
+ * <p>{@code payloadSize} ronda el tamaño de un evento serializado (unos 300 bytes).</p>
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="OutboxLogBenchmark"
+ * </pre>
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OutboxLogBenchmark {
+
+    private static final int SEGMENT_SIZE = 16 * 1024 * 1024;
+    private static final int BATCH_SIZE = 500;
+
+    @State(Scope.Benchmark)
+    public static class AppendState {
+
+        @Param({"256", "1024"})
+        public int payloadSize;
+
+        @Param({"false", "true"})
+        public boolean forceOnAppend;
+
+        private Path directory;
+        private OutboxLog outboxLog;
+        private byte[] record;
+        private long appended;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("outbox-append");
+            outboxLog = OutboxLog.open(directory, SEGMENT_SIZE, forceOnAppend);
+            record = payload(payloadSize);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            outboxLog.close();
+            deleteRecursively(directory);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class DrainState {
+
+        private static final int RECORDS = 100_000;
+
+        @Param({"256", "1024"})
+        public int payloadSize;
+
+        private Path directory;
+        private OutboxLog outboxLog;
+        private long cursor;
+
+        @Setup(Level.Trial)
+        public void setUp() throws IOException {
+            directory = Files.createTempDirectory("outbox-drain");
+            outboxLog = OutboxLog.open(directory, SEGMENT_SIZE, false);
+            byte[] record = payload(payloadSize);
+            for (int i = 0; i < RECORDS; i++) {
+                outboxLog.append(record);
+            }
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws IOException {
+            outboxLog.close();
+            deleteRecursively(directory);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public long append(AppendState state) throws IOException {
+        long offset = state.outboxLog.append(state.record);
+        if ((++state.appended & 4095) == 0) {
+            state.outboxLog.commit(state.outboxLog.endOffset());
+        }
+        return offset;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    @OperationsPerInvocation(BATCH_SIZE)
+    public List<OutboxLog.Entry> drain(DrainState state) {
+        List<OutboxLog.Entry> batch = state.outboxLog.read(state.cursor, BATCH_SIZE);
+        if (batch.size() < BATCH_SIZE) {
+            // Al llegar al final se vuelve al principio y se lee un lote completo
+            state.cursor = 0;
+            batch = state.outboxLog.read(0, BATCH_SIZE);
+        }
+        state.cursor = batch.get(batch.size() - 1).nextOffset();
+        return batch;
+    }
+
+    private static byte[] payload(int size) {
+        byte[] payload = new byte[size];
+        ThreadLocalRandom.current().nextBytes(payload);
+        return payload;
+    }
+
+    private static void deleteRecursively(Path directory) throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+}
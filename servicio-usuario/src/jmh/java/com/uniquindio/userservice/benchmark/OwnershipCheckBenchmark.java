@@ -0,0 +1,102 @@
+package com.uniquindio.userservice.benchmark;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.uniquindio.userservice.dto.AuthenticatedUser;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de la comprobación de {@code @IsOwner} por petición:
+ *
+ * <ul>
+ *   <li>{@code reverifyToken}: volver a verificar la firma RS256 del token guardado como
+ *       credencial (comportamiento original).</li>
+ *   <li>{@code cachedClaims}: SHA-256 del token y consulta a la caché de claims verificados.</li>
+ *   <li>{@code principal}: comparar el {@code userId} del {@link AuthenticatedUser} que ya está
+ *       en el {@link Authentication} (comportamiento actual).</li>
+ * </ul>
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="OwnershipCheckBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OwnershipCheckBenchmark {
+
+    private static final int USER_ID = 42;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private String token;
+    private JwtParser parser;
+    private Cache<String, Claims> claimsCache;
+    private Authentication authentication;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keys = generator.generateKeyPair();
+
+        Instant now = Instant.now();
+        token = Jwts.builder()
+                .id(String.valueOf(USER_ID))
+                .subject("user42@example.com")
+                .issuedAt(Date.from(now))
+                .claim("iss", "ingesis.uniquindio.edu.co")
+                .claim("userId", USER_ID)
+                .expiration(Date.from(now.plus(1, ChronoUnit.HOURS)))
+                .signWith(keys.getPrivate(), Jwts.SIG.RS256)
+                .compact();
+
+        parser = Jwts.parser().verifyWith(keys.getPublic()).build();
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+
+        claimsCache = Caffeine.newBuilder().maximumSize(10_000).build();
+        claimsCache.put(digest(token), claims);
+
+        authentication = new UsernamePasswordAuthenticationToken(AuthenticatedUser.from(claims), null, List.of());
+    }
+
+    @Benchmark
+    public boolean reverifyToken() {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        return claims.get("userId", Integer.class) == USER_ID;
+    }
+
+    @Benchmark
+    public boolean cachedClaims() throws NoSuchAlgorithmException {
+        Claims claims = claimsCache.getIfPresent(digest(token));
+        return claims != null && claims.get("userId", Integer.class) == USER_ID;
+    }
+
+    @Benchmark
+    public boolean principal() {
+        return authentication.getPrincipal() instanceof AuthenticatedUser user && user.userId() == USER_ID;
+    }
+
+    private static String digest(String token) throws NoSuchAlgorithmException {
+        return HEX.formatHex(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+    }
+}
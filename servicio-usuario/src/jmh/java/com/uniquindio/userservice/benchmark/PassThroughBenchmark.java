@@ -0,0 +1,87 @@
+package com.uniquindio.userservice.benchmark;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.uniquindio.userservice.client.ApiEnvelopeReader;
+import com.uniquindio.userservice.dto.ApiDBResponse;
+import com.uniquindio.userservice.dto.PaginatedUserResponse;
+import com.uniquindio.userservice.dto.RawJson;
+import com.uniquindio.userservice.dto.UserAccountStatusEnum;
+import com.uniquindio.userservice.dto.UserResponse;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara, para una página de usuarios del servicio de datos, el camino actual (decodificar
+ * {@code ApiDBResponse<PaginatedUserResponse>} y volver a serializar {@code data}) con el modo
+ * pass-through ({@link ApiEnvelopeReader} y copia de la región de bytes a la respuesta).
+ *
+ * <p>Mide solo el procesamiento del cuerpo, sin red. La asignación de memoria por petición se
+ * obtiene con el perfilador de GC ({@code gc.alloc.rate.norm}, bytes por operación):</p>
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="PassThroughBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PassThroughBenchmark {
+
+    private static final TypeReference<ApiDBResponse<PaginatedUserResponse>> PAGE_TYPE = new TypeReference<>() {};
+
+    @Param({"1", "10", "100"})
+    public int usersPerPage;
+
+    private ObjectMapper objectMapper;
+    private byte[] body;
+    private ByteArrayOutputStream response;
+
+    @Setup(Level.Trial)
+    public void buildBody() throws IOException {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        List<UserResponse> users = new ArrayList<>(usersPerPage);
+        for (int i = 1; i <= usersPerPage; i++) {
+            users.add(new UserResponse(i, "User Number " + i, "user" + i + "@example.com", "3001114444",
+                    UserAccountStatusEnum.VERIFIED));
+        }
+        // Mismo sobre que envía el servicio de datos (ResponseModel.send)
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("success", true);
+        envelope.put("message", "Usuarios obtenidos exitosamente");
+        envelope.put("data", new PaginatedUserResponse(1000, 1000 / usersPerPage, 1, usersPerPage, users));
+        envelope.put("error", null);
+        envelope.put("timestamp", "2025-01-15T10:30:00.000Z");
+        body = objectMapper.writeValueAsBytes(envelope);
+        response = new ByteArrayOutputStream(body.length);
+    }
+
+    @Benchmark
+    public void mapped(Blackhole blackhole) throws IOException {
+        response.reset();
+        ApiDBResponse<PaginatedUserResponse> envelope = objectMapper.readValue(body, PAGE_TYPE);
+        objectMapper.writeValue(response, envelope.data());
+        blackhole.consume(response);
+    }
+
+    @Benchmark
+    public void passThrough(Blackhole blackhole) {
+        response.reset();
+        RawJson data = ApiEnvelopeReader.extractData(body);
+        response.write(data.bytes(), data.offset(), data.length());
+        blackhole.consume(response);
+    }
+}
@@ -0,0 +1,64 @@
+package com.uniquindio.userservice.benchmark;
+
+import com.uniquindio.userservice.config.PasswordHashingProperties;
+import com.uniquindio.userservice.util.PasswordUtils;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de un hash de contraseña con el encoder de {@link PasswordUtils} para varias
+ * configuraciones de {@code password-hashing.*}, en un solo hilo y sin el pool.
+ *
+ * <p>{@code encode} corresponde a registro y cambio de contraseña; {@code matches} a cada login.
+ * Para elegir el costo según un tiempo objetivo está {@code PasswordHashCalibrator}.</p>
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="PasswordHashingBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PasswordHashingBenchmark {
+
+    private static final String PASSWORD = "Passw0rd2025";
+
+    /**
+     * {@code bcrypt-<costo>} o {@code argon2-<memoria KiB>-<iteraciones>}.
+     */
+    @Param({"bcrypt-8", "bcrypt-10", "bcrypt-12", "argon2-19456-2"})
+    public String configuration;
+
+    private PasswordEncoder encoder;
+    private String hash;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String[] parts = configuration.split("-");
+        boolean argon2 = parts[0].equals("argon2");
+        PasswordHashingProperties properties = new PasswordHashingProperties(0, 64, Duration.ofSeconds(1),
+                argon2 ? PasswordHashingProperties.Algorithm.ARGON2 : PasswordHashingProperties.Algorithm.BCRYPT,
+                argon2 ? 10 : Integer.parseInt(parts[1]),
+                argon2 ? Integer.parseInt(parts[1]) : 19456,
+                argon2 ? Integer.parseInt(parts[2]) : 2,
+                1, true);
+        encoder = PasswordUtils.createEncoder(properties);
+        hash = encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(PASSWORD, hash);
+    }
+}
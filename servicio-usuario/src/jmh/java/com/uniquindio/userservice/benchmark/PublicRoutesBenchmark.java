@@ -0,0 +1,73 @@
+package com.uniquindio.userservice.benchmark;
+
+import com.uniquindio.userservice.filter.PublicRoutes;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decisión pública/privada de {@code JwtAuthFilter}: recorrer los patrones con
+ * {@link AntPathMatcher} (implementación anterior) frente al árbol de {@link PublicRoutes}.
+ * Las rutas protegidas son el peor caso del recorrido lineal, porque se prueban todos los patrones.
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="PublicRoutesBenchmark"
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PublicRoutesBenchmark {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final List<String> PUBLIC_PATTERNS = List.of(
+            "/api/v1/auth/**",
+            "/api/v1/users/*/password",
+            "/api/v1/users/*/account_status",
+            "/api/v1/users",
+            "/v3/api-docs/**",
+            "/swagger-ui/**",
+            "/swagger-ui.html",
+            "/actuator/health",
+            "/openapi.json"
+    );
+
+    @Param({"/api/v1/users/42", "/api/v1/users", "/api/v1/auth/login"})
+    public String path;
+
+    @Param({"GET"})
+    public String method;
+
+    private PublicRoutes publicRoutes;
+    private RequestMethod requestMethod;
+
+    @Setup
+    public void setUp() {
+        publicRoutes = new PublicRoutes();
+        requestMethod = RequestMethod.resolve(method);
+    }
+
+    @Benchmark
+    public boolean antPathMatcher() {
+        for (String pattern : PUBLIC_PATTERNS) {
+            if (PATH_MATCHER.match(pattern, path)) {
+                if (pattern.equals("/api/v1/users")) {
+                    return "POST".equalsIgnoreCase(method);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public boolean routeTrie() {
+        return publicRoutes.matches(requestMethod, path);
+    }
+}
@@ -0,0 +1,122 @@
+package com.uniquindio.userservice.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.uniquindio.userservice.config.JacksonConfig;
+import com.uniquindio.userservice.config.JsonWriters;
+import com.uniquindio.userservice.dto.ErrorResponse;
+import com.uniquindio.userservice.dto.PaginatedUserResponse;
+import com.uniquindio.userservice.dto.UserAccountStatusEnum;
+import com.uniquindio.userservice.dto.UserResponse;
+import com.uniquindio.userservice.dto.notification.EventMessage;
+import com.uniquindio.userservice.dto.notification.EventType;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialización de los tipos que la aplicación escribe con Jackson, con la configuración
+ * anterior ({@code baseline}: mapper por defecto más {@code JavaTimeModule} y
+ * {@code writeValueAsBytes}) y la actual ({@code tuned}: {@link JacksonConfig} con Blackbird y
+ * pool de buffers compartido, escribiendo con los {@link JsonWriters} ya resueltos).
+ *
+ * <p>Se ejecuta con varios hilos para que se note el pool de buffers; la asignación por
+ * serialización se obtiene con el perfilador de GC ({@code gc.alloc.rate.norm}):</p>
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="SerializationBenchmark -prof gc"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class SerializationBenchmark {
+
+    @Param({"baseline", "tuned"})
+    public String config;
+
+    private ObjectMapper baseline;
+    private JsonWriters writers;
+
+    private EventMessage event;
+    private UserResponse user;
+    private PaginatedUserResponse page;
+    private ErrorResponse error;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        if ("baseline".equals(config)) {
+            baseline = new Jackson2ObjectMapperBuilder().build();
+            baseline.registerModule(new JavaTimeModule());
+            baseline.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        } else {
+            writers = new JsonWriters(new JacksonConfig().objectMapper(new Jackson2ObjectMapperBuilder()));
+        }
+
+        user = new UserResponse(101, "Andrés Felipe Rendón", "usuario@ejemplo.com", "3001114444",
+                UserAccountStatusEnum.VERIFIED);
+        List<UserResponse> users = new ArrayList<>(100);
+        for (int i = 1; i <= 100; i++) {
+            users.add(new UserResponse(i, "User Number " + i, "user" + i + "@example.com", "3001114444",
+                    UserAccountStatusEnum.VERIFIED));
+        }
+        page = new PaginatedUserResponse(1000, 10, 1, 100, users);
+        event = EventMessage.of(EventType.USER_REGISTERED, "user-service", Map.of(
+                "id", 101,
+                "name", "Andrés Felipe Rendón",
+                "email", "usuario@ejemplo.com",
+                "phone", "3001114444",
+                "url", "http://local-host:8080/api/v1/users/101/account_status"));
+        error = new ErrorResponse(401, "Token expirado", LocalDateTime.now());
+    }
+
+    @Benchmark
+    public byte[] eventMessage() throws JsonProcessingException {
+        return baseline != null ? baseline.writeValueAsBytes(event) : writers.eventMessage().writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public byte[] userResponse() throws JsonProcessingException {
+        return baseline != null ? baseline.writeValueAsBytes(user) : writers.userResponse().writeValueAsBytes(user);
+    }
+
+    @Benchmark
+    public byte[] paginatedUserResponse() throws JsonProcessingException {
+        return baseline != null ? baseline.writeValueAsBytes(page) : writers.paginatedUserResponse().writeValueAsBytes(page);
+    }
+
+    /**
+     * Cada serialización en un hilo virtual nuevo, como una petición en el perfil
+     * {@code virtual-threads}: el pool por {@code ThreadLocal} no puede reutilizar buffers.
+     * El costo del hilo es igual en ambas configuraciones.
+     */
+    @Benchmark
+    public byte[] userResponseOnNewVirtualThread() throws Exception {
+        byte[][] result = new byte[1][];
+        Thread thread = Thread.ofVirtual().start(() -> {
+            try {
+                result[0] = userResponse();
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        thread.join();
+        return result[0];
+    }
+
+    @Benchmark
+    public byte[] errorResponse() throws JsonProcessingException {
+        return baseline != null ? baseline.writeValueAsBytes(error) : writers.errorResponse().writeValueAsBytes(error);
+    }
+}
@@ -0,0 +1,68 @@
+package com.uniquindio.userservice.benchmark;
+
+import com.uniquindio.userservice.util.SigningAlgorithm;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Firma y verificación de un token como los de {@code JwtUtils} con cada algoritmo de
+ * {@link SigningAlgorithm}. El tamaño del token se imprime al arrancar cada algoritmo.
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="SigningAlgorithmBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SigningAlgorithmBenchmark {
+
+    @Param({"RS256", "ES256", "EDDSA"})
+    public SigningAlgorithm algorithm;
+
+    private KeyPair keys;
+    private JwtParser parser;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        keys = BenchmarkKeys.generate(algorithm);
+        parser = Jwts.parser().verifyWith(keys.getPublic()).build();
+        token = sign();
+        System.out.printf("%n# %s: token de %d bytes%n", algorithm.jwsName(), token.length());
+    }
+
+    @Benchmark
+    public String sign() {
+        Instant now = Instant.now();
+        return Jwts.builder()
+                .header()
+                .add("typ", "JWT")
+                .keyId("BV4mYTS16Lk683N1XFN8iJJmPk-Dw98ULUS4QQtuEDQ")
+                .and()
+                .id("42")
+                .subject("user42@example.com")
+                .issuedAt(Date.from(now))
+                .claim("iss", "ingesis.uniquindio.edu.co")
+                .claim("userId", 42)
+                .expiration(Date.from(now.plus(1, ChronoUnit.HOURS)))
+                .signWith(keys.getPrivate(), algorithm.jwsAlgorithm())
+                .compact();
+    }
+
+    @Benchmark
+    public Claims verify() {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+}
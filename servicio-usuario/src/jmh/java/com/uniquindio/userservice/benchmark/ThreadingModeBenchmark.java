@@ -0,0 +1,138 @@
+package com.uniquindio.userservice.benchmark;
+
+import com.uniquindio.userservice.ServicioUsuarioApplication;
+import com.uniquindio.userservice.dto.UserAuthResponse;
+import com.uniquindio.userservice.util.JwtUtils;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compara el servicio atendido por el pool de hilos de plataforma de Tomcat con el modo de
+ * hilos virtuales ({@code spring.threads.virtual.enabled}).
+ *
+ * <p>Cada iteración lanza {@code concurrency} peticiones simultáneas a
+ * {@code GET /api/v1/users/{id}}, que bloquea esperando al servicio de datos. El servicio se
+ * arranca dentro del fork de JMH con el modo indicado, por lo que el servicio de datos
+ * ({@code DATA_SERVICE_URL}) y el directorio de llaves ({@code JWT_KEYS_DIRECTORY}) deben estar
+ * disponibles.</p>
+ *
+ * <p>Para que cada petición llegue al servicio de datos se deshabilitan la caché de usuarios y
+ * el agrupador de consultas, y las peticiones recorren ids distintos: las consultas simultáneas
+ * del mismo id comparten una sola llamada. Los ids van de {@code -Dbenchmark.firstUserId}
+ * (1 por defecto) a {@code firstUserId + benchmark.userCount - 1} (10000 por defecto) y deben
+ * existir en el servicio de datos; las respuestas distintas de 200 se cuentan como fallidas.
+ * Tomcat admite hasta 20000 conexiones (8192 por defecto), así que con 10000 peticiones
+ * el límite de archivos abiertos ({@code ulimit -n}) debe ser mayor.</p>
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="ThreadingModeBenchmark"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ThreadingModeBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String threading;
+
+    @Param({"1000", "5000", "10000"})
+    public int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private ExecutorService clients;
+    private HttpClient httpClient;
+    private List<HttpRequest> requests;
+    private final AtomicInteger failures = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void startService() {
+        context = new SpringApplicationBuilder(ServicioUsuarioApplication.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + "virtual".equals(threading),
+                        // Mayor que el concurrency más alto; el valor por defecto de Tomcat es 8192
+                        "server.tomcat.max-connections=20000",
+                        "user-cache.maximum-size=0",
+                        "data-service.batch.enabled=false",
+                        // Los eventos de login se envían directo; así no se comparte el outbox del directorio actual
+                        "outbox.enabled=false",
+                        "logging.level.root=WARN"
+                )
+                .run();
+
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        int firstUserId = Integer.getInteger("benchmark.firstUserId", 1);
+        int userCount = Integer.getInteger("benchmark.userCount", 10000);
+        String token = context.getBean(JwtUtils.class)
+                .generateToken(new UserAuthResponse(firstUserId, "benchmark", "benchmark@example.com", null, null));
+
+        // El cliente de carga siempre usa hilos virtuales para no ser él el cuello de botella
+        clients = Executors.newVirtualThreadPerTaskExecutor();
+        httpClient = HttpClient.newBuilder()
+                .executor(clients)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        requests = new ArrayList<>(userCount);
+        for (int i = 0; i < userCount; i++) {
+            requests.add(HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/users/" + (firstUserId + i)))
+                    .header("Authorization", "Bearer " + token)
+                    .timeout(Duration.ofSeconds(60))
+                    .GET()
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopService() {
+        System.out.printf("%n[%s, %d] peticiones fallidas: %d%n", threading, concurrency, failures.get());
+        clients.close();
+        context.close();
+    }
+
+    /**
+     * Tiempo total para completar {@code concurrency} peticiones simultáneas.
+     */
+    @Benchmark
+    public int concurrentRequests() {
+        List<CompletableFuture<HttpResponse<Void>>> pending = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            HttpRequest request = requests.get(i % requests.size());
+            pending.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+        }
+
+        int ok = 0;
+        for (CompletableFuture<HttpResponse<Void>> response : pending) {
+            try {
+                if (response.join().statusCode() == 200) {
+                    ok++;
+                } else {
+                    failures.incrementAndGet();
+                }
+            } catch (RuntimeException e) {
+                failures.incrementAndGet();
+            }
+        }
+        return ok;
+    }
+}
@@ -3,9 +3,11 @@ package com.uniquindio.userservice;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableAspectJAutoProxy(proxyTargetClass = true) //Activar anotaciones personalizadas
+@EnableScheduling
 public class ServicioUsuarioApplication {
 
     public static void main(String[] args) {
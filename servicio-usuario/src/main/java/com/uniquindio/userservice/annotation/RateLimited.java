@@ -0,0 +1,20 @@
+package com.uniquindio.userservice.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * Limita las invocaciones del endpoint por email y por IP del cliente
+ * (ver {@link com.uniquindio.userservice.aspect.RateLimitAspect}).
+ *
+ * <p>El email se toma del primer argumento {@code LoginRequest} u {@code OtpRequest}.</p>
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RateLimited {
+
+    /**
+     * Nombre de la acción; cada acción tiene sus propios buckets.
+     */
+    String value();
+}
@@ -0,0 +1,122 @@
+package com.uniquindio.userservice.aspect;
+
+import com.uniquindio.userservice.annotation.RateLimited;
+import com.uniquindio.userservice.config.AuthRateLimitProperties;
+import com.uniquindio.userservice.dto.LoginRequest;
+import com.uniquindio.userservice.dto.OtpRequest;
+import com.uniquindio.userservice.exception.RateLimitExceededException;
+import com.uniquindio.userservice.util.RateLimitStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Aplica los límites de {@link AuthRateLimitProperties} a los métodos anotados con
+ * {@link RateLimited}, antes de consultar el servicio de datos, ejecutar BCrypt o publicar
+ * eventos en Kafka.
+ *
+ * <p>Primero se consume un permiso del bucket de la IP y luego del bucket del email, de modo
+ * que un cliente que prueba muchos emails se frena por IP y uno que ataca una cuenta desde
+ * muchas IPs se frena por email. Las respuestas llevan los encabezados {@code RateLimit-Limit},
+ * {@code RateLimit-Remaining} y {@code RateLimit-Reset} del bucket más restrictivo; un rechazo
+ * responde 429 con {@code Retry-After} y se cuenta en {@code auth.rate_limit.rejected}.</p>
+ *
+ * <p>La IP es {@link HttpServletRequest#getRemoteAddr()}. Detrás de un proxy hay que activar
+ * {@code server.forward-headers-strategy} para que refleje la IP real del cliente.</p>
+ */
+@Aspect
+@Component
+@Slf4j
+public class RateLimitAspect {
+
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+
+    private final RateLimitStore store;
+    private final AuthRateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitAspect(RateLimitStore store, AuthRateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Before("@annotation(rateLimited)")
+    public void checkRateLimit(JoinPoint jp, RateLimited rateLimited) {
+        if (!properties.enabled()
+                || !(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return;
+        }
+        String action = rateLimited.value();
+        HttpServletResponse response = attributes.getResponse();
+
+        RateLimitStore.Decision byIp = acquire(action, "ip", attributes.getRequest().getRemoteAddr(), properties.ipLimit());
+        RateLimitStore.Decision decision = byIp;
+        if (byIp.allowed()) {
+            String email = email(jp.getArgs());
+            if (email != null) {
+                RateLimitStore.Decision byAccount = acquire(action, "account", email, properties.accountLimit());
+                if (!byAccount.allowed() || byAccount.remaining() < byIp.remaining()) {
+                    decision = byAccount;
+                }
+            }
+        }
+
+        if (response != null) {
+            response.setHeader(LIMIT_HEADER, Integer.toString(decision.limit()));
+            response.setHeader(REMAINING_HEADER, Integer.toString(decision.remaining()));
+            response.setHeader(RESET_HEADER, Long.toString(seconds(decision.reset())));
+        }
+        if (!decision.allowed()) {
+            throw new RateLimitExceededException(
+                    "Demasiados intentos, intente de nuevo en " + seconds(decision.retryAfter()) + " segundos",
+                    decision.retryAfter());
+        }
+    }
+
+    private RateLimitStore.Decision acquire(String action, String scope, String subject, RateLimitStore.RateLimit limit) {
+        RateLimitStore.Decision decision = store.tryAcquire(action + ':' + scope + ':' + subject, limit);
+        if (!decision.allowed()) {
+            log.warn("🚦 Límite de {} por {} alcanzado para {}", action, scope, subject);
+            Counter.builder("auth.rate_limit.rejected")
+                    .description("Peticiones de autenticación rechazadas por límite de intentos")
+                    .tag("action", action)
+                    .tag("scope", scope)
+                    .register(meterRegistry)
+                    .increment();
+        }
+        return decision;
+    }
+
+    private static String email(Object[] args) {
+        for (Object arg : args) {
+            if (arg instanceof LoginRequest login && login.email() != null) {
+                return login.email().trim().toLowerCase(Locale.ROOT);
+            }
+            if (arg instanceof OtpRequest otp && otp.email() != null) {
+                return otp.email().trim().toLowerCase(Locale.ROOT);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Segundos redondeados hacia arriba, como esperan {@code Retry-After} y {@code RateLimit-Reset}.
+     */
+    public static long seconds(Duration duration) {
+        return (duration.toMillis() + 999) / 1000;
+    }
+}
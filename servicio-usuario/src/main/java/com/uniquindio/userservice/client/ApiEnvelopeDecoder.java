@@ -0,0 +1,111 @@
+package com.uniquindio.userservice.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.uniquindio.userservice.dto.ApiDBResponse;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDataBufferDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeType;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decodificador de {@link ApiDBResponse} para el {@code WebClient} de los servicios de datos.
+ *
+ * <p>En lugar de enlazar el sobre completo, recorre el cuerpo con el parser de streaming de
+ * Jackson y solo lee {@code success}, {@code statusCode} y {@code data}; {@code message},
+ * {@code error}, {@code timestamp} y cualquier otro campo se saltan sin crear objetos y quedan
+ * en {@code null} en el resultado. El contenido de {@code data} se lee con un
+ * {@link ObjectReader} que se crea una sola vez por tipo y se reutiliza.</p>
+ *
+ * <p>El mismo recorrido sirve para los formatos binarios de Jackson (CBOR, Smile); se registra
+ * una instancia por formato con su propio mapper.</p>
+ *
+ * <p>Los errores HTTP no pasan por aquí: {@code retrieve()} los convierte en
+ * {@code WebClientResponseException} a partir del cuerpo sin decodificar.</p>
+ *
+ * @see com.uniquindio.userservice.config.HttpClientConfig
+ */
+public class ApiEnvelopeDecoder extends AbstractDataBufferDecoder<ApiDBResponse<?>> {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Type, ObjectReader> dataReaders = new ConcurrentHashMap<>();
+
+    public ApiEnvelopeDecoder(ObjectMapper objectMapper) {
+        this(objectMapper, MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+    }
+
+    /**
+     * Decodificador para otro formato de Jackson (CBOR, Smile): el recorrido del sobre es el
+     * mismo con cualquier parser de streaming.
+     *
+     * @param objectMapper mapper del formato, creado sobre su {@code JsonFactory}
+     * @param mimeTypes    tipos de contenido que se decodifican con él
+     */
+    public ApiEnvelopeDecoder(ObjectMapper objectMapper, MimeType... mimeTypes) {
+        super(mimeTypes);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean canDecode(ResolvableType elementType, MimeType mimeType) {
+        return elementType.toClass() == ApiDBResponse.class && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public ApiDBResponse<?> decode(DataBuffer buffer, ResolvableType targetType,
+                                   MimeType mimeType, Map<String, Object> hints) {
+        try (InputStream input = buffer.asInputStream();
+             JsonParser parser = objectMapper.createParser(input)) {
+            return readEnvelope(parser, dataReader(targetType));
+        } catch (IOException e) {
+            throw new DecodingException("No se pudo leer la respuesta del servicio de datos: " + e.getMessage(), e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    private ApiDBResponse<?> readEnvelope(JsonParser parser, ObjectReader dataReader) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new DecodingException("La respuesta del servicio de datos no es un objeto");
+        }
+        boolean success = false;
+        int statusCode = 0;
+        Object data = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+                case "success" -> success = value == JsonToken.VALUE_TRUE;
+                case "statusCode" -> statusCode = parser.getValueAsInt();
+                case "data" -> data = value == JsonToken.VALUE_NULL ? null : dataReader.readValue(parser);
+                default -> parser.skipChildren();
+            }
+        }
+        return new ApiDBResponse<>(success, null, data, null, statusCode, null);
+    }
+
+    /**
+     * Lector del tipo de {@code data}: el argumento genérico de {@code ApiDBResponse<T>}.
+     */
+    private ObjectReader dataReader(ResolvableType targetType) {
+        ResolvableType generic = targetType.getGeneric(0);
+        Type dataType = generic == ResolvableType.NONE ? Object.class : generic.getType();
+        return dataReaders.computeIfAbsent(dataType, type -> {
+            JavaType javaType = objectMapper.constructType(type);
+            return objectMapper.readerFor(javaType);
+        });
+    }
+}
@@ -0,0 +1,89 @@
+package com.uniquindio.userservice.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.uniquindio.userservice.dto.ApiDBResponse;
+import com.uniquindio.userservice.dto.RawJson;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Lee el sobre {@link ApiDBResponse} del servicio de datos sin crear objetos: recorre el
+ * cuerpo con el parser de streaming de Jackson, valida {@code success}/{@code statusCode} y
+ * devuelve la región de bytes del campo {@code data}.
+ *
+ * <p>Los valores de {@code data} no se tokenizan más allá de lo necesario para saltarlos
+ * ({@link JsonParser#skipChildren()}), y la lectura termina en cuanto se conocen
+ * {@code success} y {@code data}, sin recorrer {@code error} ni {@code timestamp}.</p>
+ */
+public final class ApiEnvelopeReader {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private ApiEnvelopeReader() {
+    }
+
+    /**
+     * Extrae el campo {@code data} del sobre.
+     *
+     * @param body cuerpo completo de la respuesta en UTF-8
+     * @return la región de {@code body} con el valor de {@code data}, o {@code null} si es nulo o no viene
+     * @throws WebClientResponseException si el sobre indica {@code success=false} o un {@code statusCode} de error
+     * @throws DecodingException si el cuerpo no es un sobre JSON válido
+     */
+    public static RawJson extractData(byte[] body) {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new DecodingException("La respuesta del servicio de datos no es un objeto JSON");
+            }
+            Boolean success = null;
+            int statusCode = 0;
+            String message = null;
+            RawJson data = null;
+            boolean dataSeen = false;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "success" -> success = value == JsonToken.VALUE_TRUE;
+                    case "statusCode" -> statusCode = parser.getValueAsInt();
+                    case "message" -> message = parser.getValueAsString();
+                    case "data" -> {
+                        dataSeen = true;
+                        if (value != JsonToken.VALUE_NULL) {
+                            int start = (int) parser.currentTokenLocation().getByteOffset();
+                            parser.skipChildren();
+                            int end = (int) parser.currentLocation().getByteOffset();
+                            data = new RawJson(body, start, end - start);
+                        }
+                    }
+                    default -> parser.skipChildren();
+                }
+                if (dataSeen && Boolean.TRUE.equals(success)) {
+                    // El estado HTTP ya fue validado por retrieve(); el resto del sobre no se necesita
+                    break;
+                }
+            }
+
+            if (Boolean.FALSE.equals(success) || statusCode >= 400) {
+                throw envelopeError(statusCode, message);
+            }
+            return data;
+        } catch (IOException e) {
+            throw new DecodingException("No se pudo leer la respuesta del servicio de datos: " + e.getMessage(), e);
+        }
+    }
+
+    private static WebClientResponseException envelopeError(int statusCode, String message) {
+        int status = statusCode >= 400 ? statusCode : 502;
+        String detail = message != null ? message : "El servicio de datos respondió success=false";
+        return WebClientResponseException.create(status, "Data service error", HttpHeaders.EMPTY,
+                detail.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+}
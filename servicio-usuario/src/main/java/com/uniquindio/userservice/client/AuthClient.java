@@ -4,10 +4,14 @@ import com.uniquindio.userservice.dto.*;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 @Component
 public class AuthClient {
 
+    private static final ParameterizedTypeReference<ApiDBResponse<OtpResponse>> OTP_RESPONSE =
+            new ParameterizedTypeReference<>() {};
+
     private final WebClient webClient;
 
     public AuthClient(WebClient.Builder builder) {
@@ -20,14 +24,16 @@ public class AuthClient {
 
 
     public OtpResponse requestOtp(OtpRequest request) {
-        ApiDBResponse<OtpResponse> response = webClient.post()
+        return requestOtpReactive(request).block();
+    }
+
+    public Mono<OtpResponse> requestOtpReactive(OtpRequest request) {
+        return webClient.post()
                 .uri("/otp")
                 .bodyValue(request)
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<ApiDBResponse<OtpResponse>>() {})
-                .block();
-
-        return response != null ? response.data() : null;
+                .bodyToMono(OTP_RESPONSE)
+                .mapNotNull(ApiDBResponse::data);
     }
 }
 
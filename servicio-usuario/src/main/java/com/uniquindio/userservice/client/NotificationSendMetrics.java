@@ -0,0 +1,44 @@
+package com.uniquindio.userservice.client;
+
+import com.uniquindio.userservice.dto.notification.EventType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Medidores de envío de un {@link EventType}, compartidos por el envío directo y el outbox.
+ */
+final class NotificationSendMetrics {
+
+    final Timer success;
+    final Timer failure;
+    final Counter rejected;
+
+    private NotificationSendMetrics(EventType type, MeterRegistry meterRegistry) {
+        this.success = timer(type, "success", meterRegistry);
+        this.failure = timer(type, "failure", meterRegistry);
+        this.rejected = Counter.builder("notifications.send.rejected")
+                .description("Eventos descartados por el límite de envíos pendientes")
+                .tag("type", type.name())
+                .register(meterRegistry);
+    }
+
+    static Map<EventType, NotificationSendMetrics> forAllTypes(MeterRegistry meterRegistry) {
+        Map<EventType, NotificationSendMetrics> metrics = new EnumMap<>(EventType.class);
+        for (EventType type : EventType.values()) {
+            metrics.put(type, new NotificationSendMetrics(type, meterRegistry));
+        }
+        return metrics;
+    }
+
+    private static Timer timer(EventType type, String result, MeterRegistry meterRegistry) {
+        return Timer.builder("notifications.send")
+                .description("Tiempo hasta la confirmación de Kafka de un evento")
+                .tag("type", type.name())
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
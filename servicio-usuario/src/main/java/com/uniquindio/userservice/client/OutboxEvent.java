@@ -0,0 +1,38 @@
+package com.uniquindio.userservice.client;
+
+import com.uniquindio.userservice.dto.notification.EventType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Evento tal como se guarda en el outbox: {@code [tipo][clave][valor]}, con el tipo y la clave
+ * precedidos por su longitud y el valor (el JSON del evento) hasta el final del registro.
+ */
+record OutboxEvent(EventType type, String key, String value) {
+
+    byte[] encode() {
+        byte[] typeBytes = type.name().getBytes(StandardCharsets.US_ASCII);
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        byte[] valueBytes = value.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(1 + typeBytes.length + 2 + keyBytes.length + valueBytes.length)
+                .put((byte) typeBytes.length)
+                .put(typeBytes)
+                .putShort((short) keyBytes.length)
+                .put(keyBytes)
+                .put(valueBytes)
+                .array();
+    }
+
+    static OutboxEvent decode(byte[] data) {
+        ByteBuffer buffer = ByteBuffer.wrap(data);
+        byte[] typeBytes = new byte[buffer.get()];
+        buffer.get(typeBytes);
+        byte[] keyBytes = new byte[Short.toUnsignedInt(buffer.getShort())];
+        buffer.get(keyBytes);
+        return new OutboxEvent(
+                EventType.valueOf(new String(typeBytes, StandardCharsets.US_ASCII)),
+                new String(keyBytes, StandardCharsets.UTF_8),
+                new String(data, buffer.position(), buffer.remaining(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,224 @@
+package com.uniquindio.userservice.client;
+
+import com.uniquindio.userservice.config.NotificationProperties;
+import com.uniquindio.userservice.config.OutboxProperties;
+import com.uniquindio.userservice.dto.notification.EventType;
+import com.uniquindio.userservice.util.OutboxLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.InvalidRecordException;
+import org.apache.kafka.common.errors.RecordBatchTooLargeException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Envía a Kafka los eventos del {@link OutboxLog} en lotes de {@code outbox.batch-size}.
+ *
+ * <p>Cada lote se envía completo sin esperar y luego se espera la confirmación de todos sus
+ * eventos. Se confirma en el outbox el prefijo más largo que el broker aceptó; el resto se
+ * reintenta después de {@code outbox.retry-backoff}. Tras un reinicio se reanuda desde el último
+ * offset confirmado. La entrega es al menos una vez: un evento puede repetirse si el proceso cae
+ * entre el envío y la confirmación, y los consumidores lo reconocen por su id, que es la clave
+ * del mensaje.</p>
+ *
+ * <p>Se ejecuta en un hilo propio ({@code outbox-relay-1}) cada {@code outbox.poll-interval} y no
+ * en el scheduler de Spring: ese scheduler tiene un solo hilo, compartido con la reconstrucción
+ * del índice de emails, y esperar la confirmación de un lote puede tardar hasta
+ * {@code outbox.send-timeout}.</p>
+ *
+ * <p>Un evento que nunca podrá entregarse no detiene el outbox: si el registro no se puede
+ * decodificar (por ejemplo, un tipo de evento que ya no existe) o Kafka rechaza ese mensaje en
+ * particular (demasiado grande, inválido), se registra en el log, se cuenta en
+ * {@code outbox.dropped} y se confirma como si se hubiera enviado. Los demás errores, incluidos
+ * los de configuración como permisos o un topic inexistente, afectan a todos los eventos y se
+ * reintentan.</p>
+ *
+ * <p>Registra {@code notifications.send} por tipo de evento, como el envío directo,
+ * {@code outbox.relayed} con los eventos confirmados y {@code outbox.dropped} con los
+ * descartados.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class OutboxRelay {
+
+    private final OutboxLog outboxLog;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final String topic;
+    private final OutboxProperties properties;
+    private final Map<EventType, NotificationSendMetrics> metrics;
+    private final Counter relayed;
+    private final Counter dropped;
+    private final ScheduledExecutorService scheduler;
+
+    private long retryAt;
+
+    public OutboxRelay(OutboxLog outboxLog,
+                       KafkaTemplate<String, String> kafkaTemplate,
+                       NotificationProperties notificationProperties,
+                       OutboxProperties properties,
+                       MeterRegistry meterRegistry) {
+        this.outboxLog = outboxLog;
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = notificationProperties.topic();
+        this.properties = properties;
+        this.metrics = NotificationSendMetrics.forAllTypes(meterRegistry);
+        this.relayed = Counter.builder("outbox.relayed")
+                .description("Eventos del outbox confirmados por Kafka")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("outbox.dropped")
+                .description("Eventos del outbox descartados porque no pueden entregarse")
+                .register(meterRegistry);
+        this.retryAt = System.nanoTime();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("outbox-relay-"));
+    }
+
+    @PostConstruct
+    public void start() {
+        long interval = properties.pollInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::drain, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        scheduler.shutdownNow();
+        scheduler.awaitTermination(properties.sendTimeout().toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void drain() {
+        if (System.nanoTime() - retryAt < 0) {
+            return;
+        }
+        int batchSize = Math.max(1, properties.batchSize());
+        try {
+            int sent;
+            do {
+                sent = relayBatch(batchSize);
+            } while (sent == batchSize && !Thread.currentThread().isInterrupted());
+        } catch (IOException | RuntimeException e) {
+            log.error("❌ Error enviando el outbox a Kafka: {}", e.getMessage());
+            backOff();
+        }
+    }
+
+    /**
+     * Envía un lote y confirma el prefijo aceptado por Kafka o descartado por no poder entregarse.
+     *
+     * @return número de eventos confirmados
+     */
+    int relayBatch(int batchSize) throws IOException {
+        List<OutboxLog.Entry> entries = outboxLog.read(outboxLog.committedOffset(), batchSize);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<?>> sends = new ArrayList<>(entries.size());
+        for (OutboxLog.Entry entry : entries) {
+            OutboxEvent event;
+            try {
+                event = OutboxEvent.decode(entry.data());
+            } catch (RuntimeException e) {
+                sends.add(CompletableFuture.failedFuture(new InvalidRecordException(
+                        "Registro ilegible: " + e.getMessage())));
+                continue;
+            }
+            CompletableFuture<?> send = send(event);
+            sends.add(send);
+            if (send.isCompletedExceptionally() && undeliverableCause(send.exceptionNow()) == null) {
+                break;
+            }
+        }
+
+        int settled = awaitPrefix(entries, sends);
+        if (settled > 0) {
+            outboxLog.commit(entries.get(settled - 1).nextOffset());
+        }
+        if (settled < entries.size()) {
+            log.warn("📪 Se confirmaron {} de {} eventos del outbox; el resto se reintenta en {}",
+                    settled, entries.size(), properties.retryBackoff());
+            backOff();
+        }
+        return settled;
+    }
+
+    private CompletableFuture<?> send(OutboxEvent event) {
+        NotificationSendMetrics sendMetrics = metrics.get(event.type());
+        long start = System.nanoTime();
+        try {
+            return kafkaTemplate.send(topic, event.key(), event.value()).whenComplete((result, ex) ->
+                    (ex == null ? sendMetrics.success : sendMetrics.failure)
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        } catch (RuntimeException e) {
+            // send() falla sin devolver el future si no obtiene metadatos o buffer dentro de max.block.ms
+            sendMetrics.failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Espera los envíos en orden y retorna cuántos terminaron, confirmados o descartados, antes
+     * del primer fallo que se puede reintentar.
+     */
+    private int awaitPrefix(List<OutboxLog.Entry> entries, List<CompletableFuture<?>> sends) {
+        long deadline = System.nanoTime() + properties.sendTimeout().toNanos();
+        for (int i = 0; i < sends.size(); i++) {
+            try {
+                sends.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                relayed.increment();
+            } catch (ExecutionException | TimeoutException e) {
+                Throwable cause = e instanceof ExecutionException ? e.getCause() : e;
+                Throwable undeliverable = undeliverableCause(cause);
+                if (undeliverable == null) {
+                    log.warn("📪 Falló el envío de un evento del outbox: {}", cause.getMessage());
+                    return i;
+                }
+                log.error("🗑️ Evento del outbox descartado en el offset {} porque no puede entregarse: {}",
+                        entries.get(i).offset(), undeliverable.getMessage());
+                dropped.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return i;
+            }
+        }
+        return sends.size();
+    }
+
+    /**
+     * Busca en la cadena de causas un error propio del mensaje, que reintentar no cambiaría.
+     *
+     * @return ese error, o {@code null} si el envío se puede reintentar
+     */
+    private static Throwable undeliverableCause(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RecordTooLargeException
+                    || cause instanceof RecordBatchTooLargeException
+                    || cause instanceof InvalidRecordException
+                    || cause instanceof SerializationException) {
+                return cause;
+            }
+        }
+        return null;
+    }
+
+    private void backOff() {
+        retryAt = System.nanoTime() + properties.retryBackoff().toNanos();
+    }
+}
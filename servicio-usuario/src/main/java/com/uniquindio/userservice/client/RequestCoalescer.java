@@ -0,0 +1,76 @@
+package com.uniquindio.userservice.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Agrupa (single-flight) las llamadas concurrentes con la misma clave en una sola llamada remota.
+ *
+ * <p>El primer llamador de una clave ejecuta la llamada; los que llegan mientras sigue en curso
+ * reciben el mismo resultado o el mismo error. Al terminar, la clave se libera y la siguiente
+ * petición vuelve a consultar el servicio, por lo que no se sirven datos en caché.</p>
+ *
+ * <p>Métricas ({@code user.client.coalescing}, etiquetas {@code operation} y {@code result}):</p>
+ * <ul>
+ *   <li>{@code result=downstream}: llamadas que sí fueron al servicio remoto</li>
+ *   <li>{@code result=coalesced}: llamadas que se unieron a una en curso (llamadas ahorradas)</li>
+ * </ul>
+ *
+ * @param <K> tipo de la clave que identifica la petición
+ * @param <V> tipo del resultado
+ */
+public class RequestCoalescer<K, V> {
+
+    private final Map<K, Mono<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter downstream;
+    private final Counter coalesced;
+
+    public RequestCoalescer(String operation, MeterRegistry meterRegistry) {
+        this.downstream = Counter.builder("user.client.coalescing")
+                .description("Llamadas al servicio de datos según si fueron remotas o se agruparon con una en curso")
+                .tag("operation", operation)
+                .tag("result", "downstream")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("user.client.coalescing")
+                .description("Llamadas al servicio de datos según si fueron remotas o se agruparon con una en curso")
+                .tag("operation", operation)
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Ejecuta {@code call} para la clave o se une a la ejecución que ya esté en curso.
+     *
+     * <p>La llamada compartida no se cancela si un llamador cancela su suscripción,
+     * para no afectar al resto de llamadores que esperan el mismo resultado.</p>
+     */
+    public Mono<V> execute(K key, Function<K, Mono<V>> call) {
+        return Mono.defer(() -> {
+            Mono<V> existing = inFlight.get(key);
+            if (existing != null) {
+                coalesced.increment();
+                return existing;
+            }
+
+            AtomicReference<Mono<V>> self = new AtomicReference<>();
+            Mono<V> shared = call.apply(key)
+                    .doFinally(signal -> inFlight.remove(key, self.get()))
+                    .share();
+            self.set(shared);
+
+            existing = inFlight.putIfAbsent(key, shared);
+            if (existing != null) {
+                coalesced.increment();
+                return existing;
+            }
+            downstream.increment();
+            return shared;
+        });
+    }
+}
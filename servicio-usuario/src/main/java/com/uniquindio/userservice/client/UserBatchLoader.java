@@ -0,0 +1,133 @@
+package com.uniquindio.userservice.client;
+
+import com.uniquindio.userservice.config.DataServiceBatchProperties;
+import com.uniquindio.userservice.dto.UserResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Sinks;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Agrupa las consultas de usuarios por id que llegan en una ventana corta en una sola
+ * llamada multi-id al servicio de datos (al estilo DataLoader).
+ *
+ * <p>Cada consulta espera como máximo {@code data-service.batch.window}; si antes se juntan
+ * {@code data-service.batch.max-size} ids, el lote se envía de inmediato. Un id que no viene
+ * en la respuesta falla con un {@link WebClientResponseException} 404, igual que
+ * {@code GET /{id}}, para que los servicios traduzcan el error sin cambios.</p>
+ *
+ * <p>{@link #close()} termina la cola y cancela los lotes en curso; las consultas que quedan
+ * pendientes fallan en lugar de esperar indefinidamente.</p>
+ *
+ * <p>Métricas: {@code user.client.batch.size} (ids distintos por lote) y
+ * {@code user.client.batch.latency} (duración de la llamada multi-id), ambas con histograma.</p>
+ *
+ * @see DataServiceBatchProperties
+ */
+@Slf4j
+public class UserBatchLoader {
+
+    private record PendingLookup(int id, MonoSink<UserResponse> sink) {
+    }
+
+    private static final Duration EMIT_RETRY = Duration.ofSeconds(1);
+
+    private final Sinks.Many<PendingLookup> queue = Sinks.many().unicast().onBackpressureBuffer();
+    private final Function<List<Integer>, Mono<List<UserResponse>>> fetchByIds;
+    private final DistributionSummary batchSize;
+    private final Timer batchLatency;
+    private final Disposable subscription;
+
+    /**
+     * @param properties configuración de la ventana y el tamaño de los lotes
+     * @param meterRegistry registro de métricas
+     * @param fetchByIds llamada multi-id al servicio de datos
+     */
+    public UserBatchLoader(DataServiceBatchProperties properties,
+                           MeterRegistry meterRegistry,
+                           Function<List<Integer>, Mono<List<UserResponse>>> fetchByIds) {
+        this.fetchByIds = fetchByIds;
+        this.batchSize = DistributionSummary.builder("user.client.batch.size")
+                .description("Ids distintos por llamada multi-id al servicio de datos")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.batchLatency = Timer.builder("user.client.batch.latency")
+                .description("Duración de las llamadas multi-id al servicio de datos")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+
+        this.subscription = queue.asFlux()
+                // fairBackpressure: si todos los lotes permitidos están en curso, se acumula en lugar de fallar
+                .bufferTimeout(properties.maxSize(), properties.window(), true)
+                .flatMap(this::dispatch, properties.concurrency())
+                .subscribe();
+    }
+
+    /**
+     * Deja de aceptar consultas y libera la suscripción a la cola. Lo invoca {@link UserClient}
+     * al cerrarse el contexto.
+     */
+    public void close() {
+        queue.tryEmitComplete();
+        subscription.dispose();
+    }
+
+    /**
+     * Encola la consulta del id en el lote actual.
+     */
+    public Mono<UserResponse> load(int id) {
+        return Mono.create(sink -> queue.emitNext(new PendingLookup(id, sink),
+                Sinks.EmitFailureHandler.busyLooping(EMIT_RETRY)));
+    }
+
+    private Mono<Void> dispatch(List<PendingLookup> batch) {
+        Map<Integer, List<MonoSink<UserResponse>>> waiting = new LinkedHashMap<>();
+        for (PendingLookup lookup : batch) {
+            waiting.computeIfAbsent(lookup.id(), id -> new ArrayList<>(1)).add(lookup.sink());
+        }
+        batchSize.record(waiting.size());
+        Timer.Sample sample = Timer.start();
+
+        return fetchByIds.apply(List.copyOf(waiting.keySet()))
+                .defaultIfEmpty(List.of())
+                .doOnNext(users -> {
+                    for (UserResponse user : users) {
+                        List<MonoSink<UserResponse>> sinks = waiting.remove(user.id());
+                        if (sinks != null) {
+                            sinks.forEach(sink -> sink.success(user));
+                        }
+                    }
+                    waiting.forEach((id, sinks) -> sinks.forEach(sink -> sink.error(notFound(id))));
+                })
+                .doOnError(e -> {
+                    log.error("Error en la consulta por lote de {} usuarios: {}", waiting.size(), e.getMessage());
+                    waiting.values().forEach(sinks -> sinks.forEach(sink -> sink.error(e)));
+                })
+                .doOnCancel(() -> {
+                    IllegalStateException closed = new IllegalStateException("Consulta por lote cancelada al cerrar el cliente");
+                    waiting.values().forEach(sinks -> sinks.forEach(sink -> sink.error(closed)));
+                })
+                .doFinally(signal -> sample.stop(batchLatency))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    private static WebClientResponseException notFound(int id) {
+        return WebClientResponseException.create(404, "Not Found", HttpHeaders.EMPTY,
+                ("Usuario " + id + " no encontrado").getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+}
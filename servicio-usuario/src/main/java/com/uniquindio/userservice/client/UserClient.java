@@ -1,12 +1,23 @@
 package com.uniquindio.userservice.client;
 
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.uniquindio.userservice.config.JsonWriters;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.uniquindio.userservice.config.DataServiceBatchProperties;
 import com.uniquindio.userservice.dto.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
 /**
  * Cliente HTTP reactivo para la comunicación con el servicio de usuarios.
  * 
@@ -20,6 +31,14 @@ import reactor.core.publisher.Mono;
  * <p><strong>Nota de configuración:</strong> La URL base del servicio se configura a través
  * de variables de entorno. Para desarrollo local, se utiliza {@code localhost:8082}, pero
  * en producción debe configurarse mediante la variable de entorno {@code DATA_SERVICE_URL}.</p>
+ *
+ * <p><strong>Caché:</strong> {@link #getUserByIdReactive(int)} usa una caché local por id.
+ * La actualización reemplaza la entrada con el usuario devuelto; la eliminación, el cambio de
+ * contraseña y la verificación de la cuenta la invalidan.</p>
+ *
+ * <p><strong>Pass-through:</strong> {@link #getUserJson(int)} y {@link #getUsersPaginatedJson(int, int)}
+ * devuelven el campo {@code data} como bytes ({@link RawJson}) para reenviarlo sin decodificarlo
+ * ni volver a serializarlo (ver {@code data-service.pass-through.enabled}).</p>
  * 
  * @author Andres Felipe Rendon
  * @version 1.0.0
@@ -33,21 +52,78 @@ import reactor.core.publisher.Mono;
 @Component
 public class UserClient {
 
+    /**
+     * Tipos de respuesta del servicio de datos. Se crean una sola vez: el decodificador
+     * ({@link ApiEnvelopeDecoder}) guarda un lector por tipo de {@code data}.
+     */
+    private static final ParameterizedTypeReference<ApiDBResponse<UserResponse>> USER =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiDBResponse<PaginatedUserResponse>> USER_PAGE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiDBResponse<UserCursorPage>> USER_CURSOR_PAGE =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiDBResponse<List<UserResponse>>> USER_LIST =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiDBResponse<UserAuthResponse>> USER_AUTH =
+            new ParameterizedTypeReference<>() {};
+    private static final ParameterizedTypeReference<ApiDBResponse<AccountStatusResponse>> ACCOUNT_STATUS =
+            new ParameterizedTypeReference<>() {};
+
     /**
      * Cliente HTTP reactivo para realizar las peticiones al servicio de usuarios.
      */
     private final WebClient webClient;
 
+    /**
+     * Agrupa las consultas concurrentes por id y por email en una sola llamada al servicio.
+     */
+    private final RequestCoalescer<Integer, UserResponse> userByIdCoalescer;
+    private final RequestCoalescer<String, UserAuthResponse> userByEmailCoalescer;
+    private final RequestCoalescer<Integer, RawJson> rawUserByIdCoalescer;
+
+    /**
+     * Serializa los usuarios de la caché cuando se piden en modo pass-through.
+     */
+    private final ObjectWriter userWriter;
+
+    /**
+     * Caché local de usuarios por id. Las escrituras de este cliente la actualizan o invalidan.
+     */
+    private final Cache<Integer, UserResponse> userCache;
+
+    /**
+     * Se incrementa en cada invalidación; una lectura que empezó antes de una invalidación
+     * no guarda su resultado, para no reinsertar un usuario ya modificado.
+     */
+    private final AtomicLong cacheInvalidations = new AtomicLong();
+
+    /**
+     * Junta las consultas por id en llamadas multi-id; {@code null} si está deshabilitado.
+     */
+    private final UserBatchLoader userBatchLoader;
+
     /**
      * Constructor que inicializa el cliente HTTP con la URL base del servicio.
      * 
      * <p>La URL base se obtiene de la variable de entorno {@code DATA_SERVICE_URL}.
      * Si no está definida, se utiliza {@code http://localhost:8082/api/users} como valor por defecto.</p>
+     *
+     * <p>El builder ya trae el conector con el pool de conexiones compartido
+     * (ver {@link com.uniquindio.userservice.config.HttpClientConfig}).</p>
      * 
      * @param builder Constructor de WebClient proporcionado por Spring
+     * @param meterRegistry Registro de métricas para los contadores de agrupación de peticiones
+     * @param userCache Caché local de usuarios por id
+     * @param batchProperties Configuración del agrupador de consultas por id
+     * @param jsonWriters Writers de Jackson, para las lecturas pass-through servidas desde la caché
      * @see WebClient.Builder
+     * @see com.uniquindio.userservice.config.UserCacheConfig
      */
-    public UserClient(WebClient.Builder builder) {
+    public UserClient(WebClient.Builder builder,
+                      MeterRegistry meterRegistry,
+                      Cache<Integer, UserResponse> userCache,
+                      DataServiceBatchProperties batchProperties,
+                      JsonWriters jsonWriters) {
         String baseUrl = System.getenv("DATA_SERVICE_URL");
         if (baseUrl == null || baseUrl.trim().isEmpty()) {
             baseUrl = "http://localhost:8082/api/users"; // Valor por defecto para desarrollo
@@ -56,6 +132,21 @@ public class UserClient {
         this.webClient = builder
                 .baseUrl(baseUrl)
                 .build();
+        this.userByIdCoalescer = new RequestCoalescer<>("getUserById", meterRegistry);
+        this.userByEmailCoalescer = new RequestCoalescer<>("getUserByEmail", meterRegistry);
+        this.rawUserByIdCoalescer = new RequestCoalescer<>("getUserByIdRaw", meterRegistry);
+        this.userWriter = jsonWriters.userResponse();
+        this.userCache = userCache;
+        this.userBatchLoader = batchProperties.enabled()
+                ? new UserBatchLoader(batchProperties, meterRegistry, this::getUsersByIdsReactive)
+                : null;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (userBatchLoader != null) {
+            userBatchLoader.close();
+        }
     }
 
     /**
@@ -66,7 +157,7 @@ public class UserClient {
      * 
      * <p><strong>Nota:</strong> Este método es bloqueante (usa {@code .block()}) para
      * mantener compatibilidad con código síncrono existente. En aplicaciones completamente
-     * reactivas, considere usar la versión no bloqueante.</p>
+     * reactivas, considere usar la versión no bloqueante {@link #registerUserReactive(UserRegistration)}.</p>
      * 
      * @param userRequest DTO con los datos del usuario a registrar
      * @return {@link UserResponse} con la información del usuario registrado, o {@code null}
@@ -76,15 +167,23 @@ public class UserClient {
      * @see UserResponse
      */
     public UserResponse registerUser(UserRegistration userRequest) {
-        ApiDBResponse<UserResponse> response = webClient.post()
+        return registerUserReactive(userRequest).block();
+    }
+
+    /**
+     * Versión no bloqueante de {@link #registerUser(UserRegistration)}.
+     *
+     * @param userRequest DTO con los datos del usuario a registrar
+     * @return {@link Mono} que emite el usuario registrado, o vacío si no hay datos en la respuesta.
+     *         Los errores HTTP se propagan como {@link WebClientResponseException}
+     */
+    public Mono<UserResponse> registerUserReactive(UserRegistration userRequest) {
+        return webClient.post()
                 .uri("/register")
                 .bodyValue(userRequest)
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<ApiDBResponse<UserResponse>>() {
-                })
-                .block();
-
-        return response != null ? response.data() : null;
+                .bodyToMono(USER)
+                .mapNotNull(ApiDBResponse::data);
     }
 
     /**
@@ -100,7 +199,8 @@ public class UserClient {
  * </ul>
      * 
      * <p><strong>Nota:</strong> Este método es bloqueante (usa {@code .block()}) para
-     * mantener compatibilidad con código síncrono existente.</p>
+     * mantener compatibilidad con código síncrono existente. Ver
+     * {@link #getUsersPaginatedReactive(int, int)}.</p>
      * 
      * @param page Número de página a consultar (0-based)
      * @param size Tamaño de la página (número de elementos por página)
@@ -110,17 +210,64 @@ public class UserClient {
      * @see PaginatedUserResponse
      */
     public PaginatedUserResponse getUsersPaginated(int page, int size) {
-        ApiDBResponse<PaginatedUserResponse> response = webClient.get()
+        return getUsersPaginatedReactive(page, size).block();
+    }
+
+    /**
+     * Versión no bloqueante de {@link #getUsersPaginated(int, int)}.
+     *
+     * @param page Número de página a consultar
+     * @param size Tamaño de la página
+     * @return {@link Mono} que emite la página de usuarios, o vacío si no hay datos en la respuesta
+     */
+    public Mono<PaginatedUserResponse> getUsersPaginatedReactive(int page, int size) {
+        return webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .queryParam("page", page)
                         .queryParam("size", size)
                         .build()
                 )
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<ApiDBResponse<PaginatedUserResponse>>() {})
-                .block();
+                .bodyToMono(USER_PAGE)
+                .mapNotNull(ApiDBResponse::data);
+    }
 
-        return response != null ? response.data() : null;
+    /**
+     * Obtiene la página de usuarios con id mayor que {@code afterId}, ordenada por id.
+     *
+     * <p>El servicio de datos la resuelve con una búsqueda sobre la llave primaria
+     * ({@code WHERE id > ? ORDER BY id LIMIT ?}), por lo que el costo no crece con la
+     * profundidad, a diferencia de {@link #getUsersPaginated(int, int)}.</p>
+     *
+     * <p><strong>Nota:</strong> Este método es bloqueante (usa {@code .block()}). Ver
+     * {@link #getUsersAfterReactive(int, int)}.</p>
+     *
+     * @param afterId Id del último usuario de la página anterior ({@code 0} para la primera)
+     * @param size Tamaño de la página
+     * @return {@link UserCursorPage} con los usuarios y el cursor siguiente
+     * @throws WebClientResponseException si ocurre un error en la comunicación HTTP
+     */
+    public UserCursorPage getUsersAfter(int afterId, int size) {
+        return getUsersAfterReactive(afterId, size).block();
+    }
+
+    /**
+     * Versión no bloqueante de {@link #getUsersAfter(int, int)}.
+     *
+     * @param afterId Id del último usuario de la página anterior ({@code 0} para la primera)
+     * @param size Tamaño de la página
+     * @return {@link Mono} que emite la página de usuarios, o vacío si no hay datos en la respuesta
+     */
+    public Mono<UserCursorPage> getUsersAfterReactive(int afterId, int size) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .queryParam("after", afterId)
+                        .queryParam("size", size)
+                        .build()
+                )
+                .retrieve()
+                .bodyToMono(USER_CURSOR_PAGE)
+                .mapNotNull(ApiDBResponse::data);
     }
 
     /**
@@ -130,7 +277,7 @@ public class UserClient {
      * de usuarios para obtener la información completa de un usuario específico.</p>
      * 
      * <p><strong>Nota:</strong> Este método es bloqueante (usa {@code .block()}) para
-     * mantener compatibilidad con código síncrono existente.</p>
+     * mantener compatibilidad con código síncrono existente. Ver {@link #getUserByIdReactive(int)}.</p>
      * 
      * @param id Identificador único del usuario a consultar
      * @return {@link UserResponse} con la información del usuario, o {@code null}
@@ -139,13 +286,175 @@ public class UserClient {
      * @see UserResponse
      */
     public UserResponse getUserById(int id) {
-        ApiDBResponse<UserResponse> response = webClient.get()
+        return getUserByIdReactive(id).block();
+    }
+
+    /**
+     * Versión no bloqueante de {@link #getUserById(int)}.
+     *
+     * <p>Primero se consulta la caché local; en caso de fallo, las consultas concurrentes del
+     * mismo id comparten una sola llamada al servicio (ver {@link RequestCoalescer}) y el
+     * resultado se guarda en caché. Si el agrupador está habilitado, las consultas de ids
+     * distintos que llegan juntas viajan en una sola llamada multi-id (ver {@link UserBatchLoader}).</p>
+     *
+     * @param id Identificador único del usuario a consultar
+     * @return {@link Mono} que emite el usuario, o vacío si no hay datos en la respuesta
+     */
+    public Mono<UserResponse> getUserByIdReactive(int id) {
+        return Mono.defer(() -> {
+            UserResponse cached = userCache.getIfPresent(id);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return userByIdCoalescer.execute(id, key -> {
+                long invalidationsAtStart = cacheInvalidations.get();
+                Mono<UserResponse> lookup = userBatchLoader != null
+                        ? userBatchLoader.load(key)
+                        : webClient.get()
+                                .uri("/{id}", key)
+                                .retrieve()
+                                .bodyToMono(USER)
+                                .mapNotNull(ApiDBResponse::data);
+                return lookup
+                        .doOnNext(user -> {
+                            if (cacheInvalidations.get() == invalidationsAtStart) {
+                                userCache.put(key, user);
+                            }
+                        });
+            });
+        });
+    }
+
+    /**
+     * Obtiene un usuario directamente del servicio de datos, sin la caché local ni el agrupador.
+     *
+     * <p>Para decisiones de seguridad que no pueden basarse en una copia de hasta
+     * {@code user-cache.ttl} de antigüedad, como renovar una sesión de un usuario eliminado.</p>
+     *
+     * <p><strong>Nota:</strong> Este método es bloqueante (usa {@code .block()}). Ver
+     * {@link #getFreshUserByIdReactive(int)}.</p>
+     *
+     * @param id Identificador único del usuario a consultar
+     * @return el usuario, o {@code null} si no hay datos en la respuesta
+     * @throws WebClientResponseException si ocurre un error en la comunicación HTTP
+     */
+    public UserResponse getFreshUserById(int id) {
+        return getFreshUserByIdReactive(id).block();
+    }
+
+    /**
+     * Versión no bloqueante de {@link #getFreshUserById(int)}.
+     */
+    public Mono<UserResponse> getFreshUserByIdReactive(int id) {
+        return webClient.get()
                 .uri("/{id}", id)
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<ApiDBResponse<UserResponse>>() {})
-                .block();
+                .bodyToMono(USER)
+                .mapNotNull(ApiDBResponse::data);
+    }
+
+    /**
+     * Obtiene un usuario por id como JSON sin decodificar (modo pass-through).
+     *
+     * <p>El cuerpo recibido se recorre con {@link ApiEnvelopeReader} y se devuelve la región del
+     * campo {@code data}, que se escribe en la respuesta sin crear un {@link UserResponse} ni
+     * volver a serializarlo. Un usuario presente en la caché local se sirve desde ella
+     * (serializándolo), pero el resultado de esta lectura no se guarda en la caché.</p>
+     *
+     * <p><strong>Nota:</strong> Este método es bloqueante (usa {@code .block()}). Ver
+     * {@link #getUserJsonReactive(int)}.</p>
+     *
+     * @param id Identificador del usuario
+     * @return el JSON del usuario, o {@code null} si no hay datos en la respuesta
+     * @throws WebClientResponseException si ocurre un error en la comunicación HTTP
+     */
+    public RawJson getUserJson(int id) {
+        return getUserJsonReactive(id).block();
+    }
+
+    /**
+     * Versión no bloqueante de {@link #getUserJson(int)}. Las consultas concurrentes del mismo
+     * id comparten la llamada al servicio de datos.
+     */
+    public Mono<RawJson> getUserJsonReactive(int id) {
+        return Mono.defer(() -> {
+            UserResponse cached = userCache.getIfPresent(id);
+            if (cached != null) {
+                return Mono.fromCallable(() -> RawJson.of(userWriter.writeValueAsBytes(cached)));
+            }
+            return rawUserByIdCoalescer.execute(id, key -> webClient.get()
+                    .uri("/{id}", key)
+                    // Los bytes se reenvían tal cual: siempre JSON, aunque se prefiera un formato binario
+                    .accept(MediaType.APPLICATION_JSON)
+                    .retrieve()
+                    .bodyToMono(byte[].class)
+                    .mapNotNull(ApiEnvelopeReader::extractData));
+        });
+    }
+
+    /**
+     * Obtiene una página de usuarios como JSON sin decodificar (modo pass-through).
+     *
+     * <p><strong>Nota:</strong> Este método es bloqueante (usa {@code .block()}). Ver
+     * {@link #getUsersPaginatedJsonReactive(int, int)}.</p>
+     *
+     * @param page Número de página a consultar
+     * @param size Tamaño de la página
+     * @return el JSON de la página, con la misma forma que {@link PaginatedUserResponse}
+     * @throws WebClientResponseException si ocurre un error en la comunicación HTTP
+     * @see #getUserJson(int)
+     */
+    public RawJson getUsersPaginatedJson(int page, int size) {
+        return getUsersPaginatedJsonReactive(page, size).block();
+    }
+
+    /**
+     * Versión no bloqueante de {@link #getUsersPaginatedJson(int, int)}.
+     */
+    public Mono<RawJson> getUsersPaginatedJsonReactive(int page, int size) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .queryParam("page", page)
+                        .queryParam("size", size)
+                        .build()
+                )
+                .accept(MediaType.APPLICATION_JSON)
+                .retrieve()
+                .bodyToMono(byte[].class)
+                .mapNotNull(ApiEnvelopeReader::extractData);
+    }
+
+    /**
+     * Obtiene varios usuarios en una sola llamada a {@code POST /batch} del servicio de datos.
+     *
+     * <p>No usa la caché local; los ids inexistentes o eliminados se omiten de la respuesta.</p>
+     *
+     * @param ids Identificadores de los usuarios (máximo 100)
+     * @return {@link Mono} con los usuarios encontrados, en cualquier orden
+     */
+    public Mono<List<UserResponse>> getUsersByIdsReactive(Collection<Integer> ids) {
+        return webClient.post()
+                .uri("/batch")
+                .bodyValue(new UserBatchRequest(List.copyOf(ids)))
+                .retrieve()
+                .bodyToMono(USER_LIST)
+                .mapNotNull(ApiDBResponse::data);
+    }
+
+    /**
+     * Elimina al usuario de la caché local tras una escritura que lo modifica.
+     */
+    private void evictUser(int id) {
+        cacheInvalidations.incrementAndGet();
+        userCache.invalidate(id);
+    }
 
-        return response != null ? response.data() : null;
+    /**
+     * Reemplaza al usuario en la caché local con la versión devuelta por una escritura.
+     */
+    private void refreshUser(int id, UserResponse user) {
+        cacheInvalidations.incrementAndGet();
+        userCache.put(id, user);
     }
 
     /**
@@ -155,7 +464,8 @@ public class UserClient {
      * de usuarios con los datos actualizados del usuario.</p>
      * 
      * <p><strong>Nota:</strong> Este método es bloqueante (usa {@code .block()}) para
-     * mantener compatibilidad con código síncrono existente.</p>
+     * mantener compatibilidad con código síncrono existente. Ver
+     * {@link #updateUserReactive(int, UserUpdateRequest)}.</p>
      * 
      * @param userId Identificador único del usuario a actualizar
      * @param userUpdate DTO con los datos actualizados del usuario
@@ -166,14 +476,31 @@ public class UserClient {
      * @see UserResponse
      */
     public UserResponse updateUser(int userId, UserUpdateRequest userUpdate) {
-        ApiDBResponse<UserResponse> response = webClient.put()
+        return updateUserReactive(userId, userUpdate).block();
+    }
+
+    /**
+     * Versión no bloqueante de {@link #updateUser(int, UserUpdateRequest)}.
+     *
+     * @param userId Identificador único del usuario a actualizar
+     * @param userUpdate DTO con los datos actualizados del usuario
+     * @return {@link Mono} que emite el usuario actualizado, o vacío si no hay datos en la respuesta
+     */
+    public Mono<UserResponse> updateUserReactive(int userId, UserUpdateRequest userUpdate) {
+        return webClient.put()
                 .uri("/{id}", userId)
                 .bodyValue(userUpdate)
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<ApiDBResponse<UserResponse>>() {})
-                .block();
-
-        return response != null ? response.data() : null;
+                .bodyToMono(USER)
+                .mapNotNull(ApiDBResponse::data)
+                .doOnSuccess(updated -> {
+                    if (updated != null) {
+                        refreshUser(userId, updated);
+                    } else {
+                        evictUser(userId);
+                    }
+                })
+                .doOnError(e -> evictUser(userId));
     }
 
     /**
@@ -183,7 +510,7 @@ public class UserClient {
      * de usuarios para eliminar permanentemente un usuario.</p>
      * 
      * <p><strong>Nota:</strong> Este método es bloqueante (usa {@code .block()}) para
-     * mantener compatibilidad con código síncrono existente.</p>
+     * mantener compatibilidad con código síncrono existente. Ver {@link #deleteUserReactive(int)}.</p>
      * 
      * <p><strong>Advertencia:</strong> Esta operación es irreversible. Una vez eliminado,
      * el usuario no puede ser recuperado.</p>
@@ -193,11 +520,22 @@ public class UserClient {
      *         o si el usuario no existe
      */
     public void deleteUser(int id) {
-        webClient.delete()
+        deleteUserReactive(id).block();
+    }
+
+    /**
+     * Versión no bloqueante de {@link #deleteUser(int)}.
+     *
+     * @param id Identificador único del usuario a eliminar
+     * @return {@link Mono} que completa cuando el servicio confirma la eliminación
+     */
+    public Mono<Void> deleteUserReactive(int id) {
+        return webClient.delete()
                 .uri("/{id}", id)
                 .retrieve()
                 .toBodilessEntity()
-                .block();
+                .doFinally(signal -> evictUser(id))
+                .then();
     }
 
 
@@ -209,7 +547,7 @@ public class UserClient {
      * de usuarios para obtener la información completa de un usuario específico.</p>
      *
      * <p><strong>Nota:</strong> Este método es bloqueante (usa {@code .block()}) para
-     * mantener compatibilidad con código síncrono existente.</p>
+     * mantener compatibilidad con código síncrono existente. Ver {@link #getUserByEmailReactive(String)}.</p>
      *
      * @param email único del usuario a consultar
      * @return {@link UserResponse} con la información del usuario, o {@code null}
@@ -218,16 +556,27 @@ public class UserClient {
      * @see UserResponse
      */
     public UserAuthResponse getUserByEmail(String email) {
-        ApiDBResponse<UserAuthResponse> response = webClient.get()
+        return getUserByEmailReactive(email).block();
+    }
+
+    /**
+     * Versión no bloqueante de {@link #getUserByEmail(String)}.
+     *
+     * <p>Las consultas concurrentes del mismo email (p. ej. reintentos de login) comparten
+     * una sola llamada al servicio (ver {@link RequestCoalescer}).</p>
+     *
+     * @param email único del usuario a consultar
+     * @return {@link Mono} que emite el usuario con su contraseña encriptada, o vacío si no hay datos
+     */
+    public Mono<UserAuthResponse> getUserByEmailReactive(String email) {
+        return userByEmailCoalescer.execute(email, key -> webClient.get()
                 .uri(uriBuilder -> uriBuilder
                         .path("/email")
-                        .queryParam("value", email) // aquí pasamos el email como query param
+                        .queryParam("value", key) // aquí pasamos el email como query param
                         .build())
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<ApiDBResponse<UserAuthResponse>>() {})
-                .block();
-
-        return response != null ? response.data() : null;
+                .bodyToMono(USER_AUTH)
+                .mapNotNull(ApiDBResponse::data));
     }
 
     /**
@@ -237,7 +586,8 @@ public class UserClient {
      * de usuarios para procesar la solicitud de cambio de contraseña.</p>
      *
      * <p><strong>Nota:</strong> Este método es bloqueante (usa {@code .block()}) para
-     * mantener compatibilidad con código síncrono existente.</p>
+     * mantener compatibilidad con código síncrono existente. Ver
+     * {@link #recoverPasswordReactive(PasswordRecoveryRequest, int)}.</p>
      *
      * @param recoveryRequest solicitud con el correo y otp del usuario a consultar
      * @param id único del usuario a consultar. Si el usuario no existe o la operación falla
@@ -245,12 +595,47 @@ public class UserClient {
      * @see UserResponse
      */
     public void recoverPassword(PasswordRecoveryRequest recoveryRequest, int id) {
-        webClient.patch()
+        recoverPasswordReactive(recoveryRequest, id).block();
+    }
+
+    /**
+     * Versión no bloqueante de {@link #recoverPassword(PasswordRecoveryRequest, int)}.
+     *
+     * @param recoveryRequest solicitud con el correo, el otp y la nueva contraseña (ya encriptada)
+     * @param id único del usuario
+     * @return {@link Mono} que completa cuando el servicio confirma el cambio
+     */
+    public Mono<Void> recoverPasswordReactive(PasswordRecoveryRequest recoveryRequest, int id) {
+        return webClient.patch()
                 .uri("/{id}/password", id)
                 .bodyValue(recoveryRequest)
                 .retrieve()
                 .toBodilessEntity()
-                .block();
+                .doFinally(signal -> evictUser(id))
+                .then();
+    }
+
+    /**
+     * Reemplaza el hash de la contraseña de un usuario por uno equivalente generado con otro
+     * algoritmo o costo (ver {@code PasswordHashUpgrader}).
+     *
+     * <p>Envía una petición PATCH al endpoint {@code /{id}/password_hash}. El servicio solo
+     * escribe el hash nuevo si el guardado sigue siendo {@code currentHash}, de modo que un
+     * cambio de contraseña concurrente nunca se sobrescribe.</p>
+     *
+     * @param id          único del usuario
+     * @param currentHash hash con el que se verificó la contraseña
+     * @param newHash     hash nuevo de la misma contraseña
+     * @return {@link Mono} con {@code true} si se reemplazó y {@code false} si el hash guardado ya era otro (409)
+     */
+    public Mono<Boolean> upgradePasswordHashReactive(int id, String currentHash, String newHash) {
+        return webClient.patch()
+                .uri("/{id}/password_hash", id)
+                .bodyValue(new PasswordHashUpdate(currentHash, newHash))
+                .retrieve()
+                .toBodilessEntity()
+                .thenReturn(true)
+                .onErrorResume(WebClientResponseException.Conflict.class, e -> Mono.just(false));
     }
 
     /**
@@ -260,7 +645,7 @@ public class UserClient {
      * de usuarios para eliminar permanentemente un usuario.</p>
      *
      * <p><strong>Nota:</strong> Este método es bloqueante (usa {@code .block()}) para
-     * mantener compatibilidad con código síncrono existente.</p>
+     * mantener compatibilidad con código síncrono existente. Ver {@link #verifyUserReactive(int)}.</p>
      *
      * <p><strong>Advertencia:</strong> Esta operación es irreversible. Una vez eliminado,
      * el usuario no puede ser recuperado.</p>
@@ -270,13 +655,22 @@ public class UserClient {
      *         o si el usuario no existe
      */
     public AccountStatusResponse verifyUser(int id) {
-        ApiDBResponse<AccountStatusResponse> response =webClient.patch()
+        return verifyUserReactive(id).block();
+    }
+
+    /**
+     * Versión no bloqueante de {@link #verifyUser(int)}.
+     *
+     * @param id Identificador único del usuario a verificar
+     * @return {@link Mono} que emite el nuevo estado de la cuenta, o vacío si no hay datos
+     */
+    public Mono<AccountStatusResponse> verifyUserReactive(int id) {
+        return webClient.patch()
                 .uri("/{id}/account_status", id)
                 .retrieve()
-                .bodyToMono(new ParameterizedTypeReference<ApiDBResponse<AccountStatusResponse>>() {})
-                .block();
-
-        return response != null ? response.data() : null;
+                .bodyToMono(ACCOUNT_STATUS)
+                .mapNotNull(ApiDBResponse::data)
+                .doFinally(signal -> evictUser(id));
     }
 }
 
@@ -1,23 +1,103 @@
 package com.uniquindio.userservice.client;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.uniquindio.userservice.config.JsonWriters;
+import com.uniquindio.userservice.config.NotificationProperties;
 import com.uniquindio.userservice.dto.OtpResponse;
 import com.uniquindio.userservice.dto.UserAuthResponse;
 import com.uniquindio.userservice.dto.UserResponse;
 import com.uniquindio.userservice.dto.notification.EventMessage;
 import com.uniquindio.userservice.dto.notification.EventType;
-import lombok.RequiredArgsConstructor;
+import com.uniquindio.userservice.exception.EventSerializationException;
+import com.uniquindio.userservice.exception.NotificationUnavailableException;
+import com.uniquindio.userservice.util.OutboxLog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * Publica los eventos de usuario en Kafka sin esperar la confirmación del broker.
+ *
+ * <p>Con {@code outbox.enabled=true} (por defecto) los eventos {@code USER_REGISTERED} y
+ * {@code PASSWORD_CHANGED} solo se agregan al {@link OutboxLog} local y {@link OutboxRelay} los
+ * envía después: la petición no depende de que Kafka esté disponible y el evento no se pierde si
+ * el proceso cae. El resto no se guarda en disco, porque el outbox no está cifrado: {@code OTP_REQUESTED}
+ * lleva la URL de recuperación de la contraseña y {@code USER_LOGIN} se genera en cada inicio de
+ * sesión. Esos eventos, y todos si no se puede escribir en el outbox o está deshabilitado, se
+ * envían directo como se describe a continuación.</p>
+ *
+ * <p>El productor agrupa los mensajes en lotes comprimidos y es idempotente (ver
+ * {@code spring.kafka.producer.*} en {@code application.properties}): los reintentos no
+ * duplican ni reordenan eventos. {@code max.block.ms} acota cuánto puede bloquear
+ * {@code send} esperando metadatos o espacio en el buffer.</p>
+ *
+ * <p>A lo sumo {@code notifications.max-in-flight} envíos esperan confirmación a la vez. Con el
+ * límite alcanzado (broker lento o caído) el evento se descarta y se registra, en vez de
+ * acumular mensajes en memoria o bloquear el hilo de la petición. {@code OTP_REQUESTED} no se
+ * descarta: lleva el único enlace de recuperación, así que se lanza
+ * {@link NotificationUnavailableException} (503 con {@code Retry-After}) para que el cliente
+ * reintente. {@link #requireCapacity()} permite comprobarlo antes de crear el OTP.</p>
+ *
+ * <p>Métricas, con la etiqueta {@code type} del {@link EventType}:</p>
+ * <ul>
+ *   <li>{@code notifications.send}: tiempo hasta la confirmación del broker, con
+ *       {@code result=success} o {@code result=failure}.</li>
+ *   <li>{@code notifications.send.rejected}: eventos descartados por el límite de envíos.</li>
+ *   <li>{@code notifications.in_flight} (sin etiqueta): envíos pendientes de confirmación.</li>
+ * </ul>
+ * <p>Spring Boot publica además las métricas del cliente de Kafka como {@code kafka.producer.*}
+ * (tamaño de lote, tasa de compresión, reintentos).</p>
+ */
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class UserNotificationProducer {
+    private static final Set<EventType> OUTBOX_EVENTS = EnumSet.of(EventType.USER_REGISTERED, EventType.PASSWORD_CHANGED);
+    // Eventos sin los que la respuesta al cliente no sirve: se rechazan con 503 en vez de descartarse
+    private static final Set<EventType> REQUIRED_EVENTS = EnumSet.of(EventType.OTP_REQUESTED);
+
     private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper; // Jackson para serializar eventos
+    private final ObjectWriter eventWriter; // Jackson para serializar eventos
+    private final Executor notificationExecutor; // En modo hilos virtuales el envío ocurre en hilos de plataforma
+    private final String topic;
+    private final Semaphore inFlight;
+    private final Duration retryAfter;
+    private final Map<EventType, NotificationSendMetrics> metrics;
+    private final OutboxLog outboxLog; // null si el outbox está deshabilitado
+
+    public UserNotificationProducer(KafkaTemplate<String, String> kafkaTemplate,
+                                    JsonWriters jsonWriters,
+                                    @Qualifier("notificationExecutor") Executor notificationExecutor,
+                                    NotificationProperties properties,
+                                    ObjectProvider<OutboxLog> outboxLog,
+                                    MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.eventWriter = jsonWriters.eventMessage();
+        this.notificationExecutor = notificationExecutor;
+        this.topic = properties.topic();
+        this.inFlight = new Semaphore(properties.maxInFlight());
+        this.retryAfter = properties.retryAfter();
+        this.metrics = NotificationSendMetrics.forAllTypes(meterRegistry);
+        this.outboxLog = outboxLog.getIfAvailable();
+        int maxInFlight = properties.maxInFlight();
+        Gauge.builder("notifications.in_flight", inFlight, s -> maxInFlight - s.availablePermits())
+                .description("Eventos enviados a Kafka pendientes de confirmación")
+                .register(meterRegistry);
+    }
 
     public void sendUserLogin(UserAuthResponse user) {
         EventMessage event = EventMessage.of(
@@ -82,11 +162,74 @@ public class UserNotificationProducer {
 
 
     private void send(EventMessage event) {
+        String eventJson;
         try {
-            String eventJson = objectMapper.writeValueAsString(event);
-            kafkaTemplate.send("user-events", event.id(), eventJson);
+            eventJson = eventWriter.writeValueAsString(event);
         } catch (JsonProcessingException e) {
-            throw new RuntimeException("Error serializando evento", e);//Agregar excepcion personalizada
+            throw new EventSerializationException("Error serializando evento " + event.type(), e);
+        }
+        if (outboxLog != null && OUTBOX_EVENTS.contains(event.type())) {
+            try {
+                outboxLog.append(new OutboxEvent(event.type(), event.id(), eventJson).encode());
+                return;
+            } catch (IOException | RuntimeException e) {
+                log.warn("⚠️ No se pudo guardar el evento {} {} en el outbox; se envía directo: {}",
+                        event.type(), event.id(), e.getMessage());
+            }
+        }
+        NotificationSendMetrics sendMetrics = metrics.get(event.type());
+        if (!inFlight.tryAcquire()) {
+            reject(event, sendMetrics, "hay demasiados envíos a Kafka pendientes");
+            return;
+        }
+        try {
+            notificationExecutor.execute(() -> publish(event, eventJson, sendMetrics));
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            reject(event, sendMetrics, "el executor de notificaciones no acepta más tareas");
+        }
+    }
+
+    /**
+     * Falla si en este momento un envío directo se rechazaría por el límite de envíos pendientes.
+     * Se usa antes de crear un OTP, para no crearlo si su enlace no se va a poder enviar.
+     *
+     * @throws NotificationUnavailableException si el límite está alcanzado
+     */
+    public void requireCapacity() {
+        if (inFlight.availablePermits() == 0) {
+            throw new NotificationUnavailableException(
+                    "No se pueden enviar notificaciones en este momento, intente de nuevo", retryAfter);
+        }
+    }
+
+    private void reject(EventMessage event, NotificationSendMetrics sendMetrics, String reason) {
+        sendMetrics.rejected.increment();
+        if (REQUIRED_EVENTS.contains(event.type())) {
+            log.warn("📭 Evento {} {} rechazado: {}", event.type(), event.id(), reason);
+            throw new NotificationUnavailableException(
+                    "No se pudo enviar la notificación, intente de nuevo", retryAfter);
+        }
+        log.warn("📭 Evento {} {} descartado: {}", event.type(), event.id(), reason);
+    }
+
+    private void publish(EventMessage event, String eventJson, NotificationSendMetrics sendMetrics) {
+        long start = System.nanoTime();
+        try {
+            kafkaTemplate.send(topic, event.id(), eventJson).whenComplete((result, ex) -> {
+                inFlight.release();
+                if (ex == null) {
+                    sendMetrics.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                } else {
+                    sendMetrics.failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                    log.error("❌ No se pudo publicar el evento {} {}: {}", event.type(), event.id(), ex.getMessage());
+                }
+            });
+        } catch (RuntimeException e) {
+            // send() falla sin devolver el future si no obtiene metadatos o buffer dentro de max.block.ms
+            inFlight.release();
+            sendMetrics.failure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            log.error("❌ No se pudo publicar el evento {} {}: {}", event.type(), event.id(), e.getMessage());
         }
     }
 
@@ -103,4 +246,3 @@ public class UserNotificationProducer {
         send(event);
     }
 }
-
@@ -0,0 +1,32 @@
+package com.uniquindio.userservice.config;
+
+import com.uniquindio.userservice.util.InMemoryRateLimitStore;
+import com.uniquindio.userservice.util.RateLimitStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Estado de los límites de login y OTP. Se usa {@link InMemoryRateLimitStore} salvo que la
+ * aplicación declare su propio {@link RateLimitStore}. Las métricas del almacén en memoria se
+ * publican con la etiqueta {@code cache=rate-limit-buckets}.
+ *
+ * @see AuthRateLimitProperties
+ */
+@Configuration
+@EnableConfigurationProperties(AuthRateLimitProperties.class)
+public class AuthRateLimitConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(RateLimitStore.class)
+    public RateLimitStore rateLimitStore(AuthRateLimitProperties properties, MeterRegistry meterRegistry) {
+        Duration idleTimeout = properties.accountPeriod().compareTo(properties.ipPeriod()) > 0
+                ? properties.accountPeriod()
+                : properties.ipPeriod();
+        return new InMemoryRateLimitStore(properties.maximumBuckets(), idleTimeout, meterRegistry);
+    }
+}
@@ -0,0 +1,38 @@
+package com.uniquindio.userservice.config;
+
+import com.uniquindio.userservice.util.RateLimitStore;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Límites de login y OTP (prefijo {@code auth.rate-limit}). Cada acción tiene un bucket por
+ * email y otro por IP del cliente; una petición debe obtener permiso de ambos.
+ *
+ * @param enabled         si se aplican los límites
+ * @param accountCapacity intentos seguidos permitidos por email
+ * @param accountPeriod   tiempo en que se recuperan todos los intentos de un email
+ * @param ipCapacity      intentos seguidos permitidos por IP
+ * @param ipPeriod        tiempo en que se recuperan todos los intentos de una IP
+ * @param maximumBuckets  número máximo de buckets en memoria
+ * @see AuthRateLimitConfig
+ */
+@ConfigurationProperties("auth.rate-limit")
+public record AuthRateLimitProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("5") int accountCapacity,
+        @DefaultValue("1m") Duration accountPeriod,
+        @DefaultValue("20") int ipCapacity,
+        @DefaultValue("1m") Duration ipPeriod,
+        @DefaultValue("100000") long maximumBuckets
+) {
+
+    public RateLimitStore.RateLimit accountLimit() {
+        return new RateLimitStore.RateLimit(accountCapacity, accountPeriod);
+    }
+
+    public RateLimitStore.RateLimit ipLimit() {
+        return new RateLimitStore.RateLimit(ipCapacity, ipPeriod);
+    }
+}
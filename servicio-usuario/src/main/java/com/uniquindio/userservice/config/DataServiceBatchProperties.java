@@ -0,0 +1,29 @@
+package com.uniquindio.userservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuración del agrupador de consultas de usuarios por id (prefijo {@code data-service.batch}).
+ *
+ * <p>Deshabilitado por defecto: cada consulta espera hasta {@code window} a que lleguen otras, lo
+ * que suma latencia a una consulta aislada sin ahorrar ninguna llamada. Conviene habilitarlo
+ * cuando llegan muchas consultas simultáneas de ids distintos.</p>
+ *
+ * @param enabled     si es {@code false} cada consulta por id hace su propia llamada a {@code GET /{id}}
+ * @param window      tiempo máximo que una consulta espera a que se junten otras antes de enviarse
+ * @param maxSize     ids por llamada a {@code POST /batch}; al completarse el lote se envía sin esperar
+ *                    la ventana (el servicio de datos acepta como máximo 100)
+ * @param concurrency lotes que pueden estar en curso al mismo tiempo
+ * @see com.uniquindio.userservice.client.UserBatchLoader
+ */
+@ConfigurationProperties("data-service.batch")
+public record DataServiceBatchProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("2ms") Duration window,
+        @DefaultValue("100") int maxSize,
+        @DefaultValue("8") int concurrency
+) {
+}
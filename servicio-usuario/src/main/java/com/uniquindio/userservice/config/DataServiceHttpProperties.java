@@ -0,0 +1,72 @@
+package com.uniquindio.userservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.http.MediaType;
+
+import java.time.Duration;
+
+/**
+ * Configuración del cliente HTTP compartido por {@code UserClient} y {@code AuthClient}
+ * (prefijo {@code data-service.http}).
+ *
+ * @param maxConnections         conexiones máximas por servicio remoto
+ * @param pendingAcquireMaxCount peticiones que pueden esperar una conexión libre; las demás fallan de inmediato
+ * @param pendingAcquireTimeout  tiempo máximo de espera por una conexión del pool
+ * @param connectTimeout         tiempo máximo para establecer la conexión TCP
+ * @param readTimeout            tiempo máximo sin recibir datos en una conexión activa
+ * @param responseTimeout        tiempo máximo para recibir la respuesta completa a una petición
+ * @param maxIdleTime            tiempo que una conexión puede quedar inactiva en el pool. Debe ser menor
+ *                               que el keep-alive del servidor (5 s por defecto en Node.js) para no reutilizar
+ *                               conexiones que el servidor ya cerró
+ * @param maxLifeTime            vida máxima de una conexión, para repartir carga tras escalar el servicio remoto
+ * @param evictionInterval       frecuencia con la que se eliminan en segundo plano las conexiones vencidas
+ * @param h2c                    habilita HTTP/2 sin TLS (h2c) con fallback a HTTP/1.1
+ * @param encoding               formato preferido para las respuestas del servicio de datos. Se pide con
+ *                               {@code Accept} dejando JSON como alternativa, así que un servicio que solo
+ *                               responde JSON sigue funcionando. Los cuerpos de las peticiones son siempre JSON
+ * @see HttpClientConfig
+ */
+@ConfigurationProperties("data-service.http")
+public record DataServiceHttpProperties(
+        @DefaultValue("100") int maxConnections,
+        @DefaultValue("500") int pendingAcquireMaxCount,
+        @DefaultValue("5s") Duration pendingAcquireTimeout,
+        @DefaultValue("2s") Duration connectTimeout,
+        @DefaultValue("10s") Duration readTimeout,
+        @DefaultValue("10s") Duration responseTimeout,
+        @DefaultValue("4s") Duration maxIdleTime,
+        @DefaultValue("5m") Duration maxLifeTime,
+        @DefaultValue("10s") Duration evictionInterval,
+        @DefaultValue("false") boolean h2c,
+        @DefaultValue("json") Encoding encoding
+) {
+
+    /**
+     * Formatos de respuesta que decodifican {@code UserClient} y {@code AuthClient}.
+     */
+    public enum Encoding {
+        JSON(MediaType.APPLICATION_JSON),
+        CBOR(MediaType.APPLICATION_CBOR),
+        SMILE(new MediaType("application", "x-jackson-smile"));
+
+        private final MediaType mediaType;
+
+        Encoding(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public MediaType mediaType() {
+            return mediaType;
+        }
+
+        /**
+         * Valor de {@code Accept}: el formato preferido y JSON como alternativa.
+         */
+        public String acceptHeader() {
+            return this == JSON
+                    ? MediaType.APPLICATION_JSON_VALUE
+                    : mediaType + ", " + MediaType.APPLICATION_JSON_VALUE + ";q=0.5";
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.uniquindio.userservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuración del modo pass-through de las lecturas (prefijo {@code data-service.pass-through}).
+ *
+ * @param enabled si es {@code true}, {@code GET /api/v1/users/{id}} y {@code GET /api/v1/users?page=}
+ *                reenvían el campo {@code data} del servicio de datos sin decodificarlo ni volver a
+ *                serializarlo. Requiere que el servicio de datos devuelva exactamente los campos
+ *                públicos de {@code UserResponse} y {@code PaginatedUserResponse}
+ * @see PassThroughConfig
+ */
+@ConfigurationProperties("data-service.pass-through")
+public record DataServicePassThroughProperties(
+        @DefaultValue("false") boolean enabled
+) {
+}
@@ -0,0 +1,15 @@
+package com.uniquindio.userservice.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Habilita la configuración del índice de emails registrados. La reconstrucción periódica usa el
+ * scheduler de Spring, habilitado en {@link com.uniquindio.userservice.ServicioUsuarioApplication}.
+ *
+ * @see com.uniquindio.userservice.util.KnownEmailIndex
+ */
+@Configuration
+@EnableConfigurationProperties(EmailIndexProperties.class)
+public class EmailIndexConfig {
+}
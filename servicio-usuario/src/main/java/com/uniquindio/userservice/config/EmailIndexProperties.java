@@ -0,0 +1,28 @@
+package com.uniquindio.userservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuración del índice probabilístico de emails registrados (prefijo {@code email-index}).
+ *
+ * @param enabled            si es {@code false} el índice responde siempre "puede existir" y no se consulta
+ * @param expectedEmails     número mínimo de emails para el que se dimensiona el filtro; al reconstruirlo
+ *                           se usa el doble de los emails del filtro anterior si es mayor
+ * @param falsePositiveRate  tasa de falsos positivos objetivo con {@code expectedEmails} elementos
+ * @param rebuildInterval    cada cuánto se reconstruye el filtro desde el servicio de datos. Acota cuánto
+ *                           tarda en conocerse un email registrado por otra instancia del servicio
+ * @param pageSize           usuarios por página al recorrer el servicio de datos (máximo 100)
+ * @see EmailIndexConfig
+ */
+@ConfigurationProperties("email-index")
+public record EmailIndexProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") long expectedEmails,
+        @DefaultValue("0.01") double falsePositiveRate,
+        @DefaultValue("30m") Duration rebuildInterval,
+        @DefaultValue("100") int pageSize
+) {
+}
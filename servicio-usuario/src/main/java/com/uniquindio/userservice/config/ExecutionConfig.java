@@ -0,0 +1,68 @@
+package com.uniquindio.userservice.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executors para el trabajo que no debe ejecutarse directamente en los hilos de la petición.
+ *
+ * <p>BCrypt se ejecuta siempre en un pool propio de hilos de plataforma con una cola acotada
+ * (ver {@link PasswordHashingProperties}). Un hash ocupa la CPU decenas de milisegundos: sin
+ * límite, un pico de logins acapara todos los núcleos y deja sin CPU a lecturas baratas como
+ * {@code GET /users/{id}}. Con la cola llena la tarea se rechaza y {@code PasswordUtils}
+ * responde 503 con {@code Retry-After}. El pool publica las métricas {@code executor.queued}
+ * (profundidad de la cola), {@code executor.idle} (espera en cola) y {@code executor}
+ * (duración del hash) con la etiqueta {@code name=password-hashing}.</p>
+ *
+ * <p>El envío a Kafka se ejecuta en el hilo que lo invoca con hilos de plataforma (modo por
+ * defecto). Con {@code spring.threads.virtual.enabled=true} (perfil {@code virtual-threads}) se
+ * delega a un pool pequeño de hilos de plataforma: el productor espera los metadatos del broker
+ * con {@code Object.wait()} dentro de bloques {@code synchronized}, lo que en Java 21 fija (pin)
+ * el hilo virtual a su carrier.</p>
+ */
+@Configuration
+@EnableConfigurationProperties({PasswordHashingProperties.class, NotificationProperties.class})
+public class ExecutionConfig {
+
+    public static final String PASSWORD_HASHING = "password-hashing";
+
+    @Bean
+    public ExecutorService passwordHashingExecutor(PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        int threads = properties.effectiveThreads();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.queueCapacity()),
+                new CustomizableThreadFactory("bcrypt-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, PASSWORD_HASHING);
+    }
+
+    @Bean
+    @ConditionalOnThreading(Threading.PLATFORM)
+    public Executor notificationExecutor() {
+        return Runnable::run;
+    }
+
+    @Bean(name = "notificationExecutor")
+    @ConditionalOnThreading(Threading.VIRTUAL)
+    public ThreadPoolTaskExecutor virtualModeNotificationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setThreadNamePrefix("kafka-send-");
+        return executor;
+    }
+}
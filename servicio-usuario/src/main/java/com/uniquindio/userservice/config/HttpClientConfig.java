@@ -0,0 +1,107 @@
+package com.uniquindio.userservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.uniquindio.userservice.client.ApiEnvelopeDecoder;
+import com.uniquindio.userservice.config.DataServiceHttpProperties.Encoding;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.timeout.ReadTimeoutHandler;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cliente HTTP compartido para las llamadas a los servicios de datos y autenticación.
+ *
+ * <p>Spring Boot aplica el {@link ClientHttpConnector} declarado aquí a todo
+ * {@code WebClient.Builder} inyectado, por lo que {@code UserClient} y {@code AuthClient}
+ * reutilizan el mismo pool de conexiones en lugar de crear uno por cliente.</p>
+ *
+ * <p>El pool {@value #POOL_NAME} publica sus métricas en Actuator
+ * ({@code /actuator/metrics/reactor.netty.connection.provider.*}): conexiones activas,
+ * inactivas, pendientes, totales y la latencia de adquisición
+ * ({@code reactor.netty.connection.provider.pending.connections.time}),
+ * etiquetadas por servicio remoto.</p>
+ *
+ * <p>Los sobres {@code ApiDBResponse} se decodifican con {@link ApiEnvelopeDecoder}, en JSON o
+ * en el formato binario configurado en {@code data-service.http.encoding}.</p>
+ *
+ * @see DataServiceHttpProperties
+ */
+@Configuration
+@EnableConfigurationProperties({DataServiceHttpProperties.class, DataServiceBatchProperties.class})
+public class HttpClientConfig {
+
+    public static final String POOL_NAME = "data-service";
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider dataServiceConnectionProvider(DataServiceHttpProperties properties) {
+        return ConnectionProvider.builder(POOL_NAME)
+                .maxConnections(properties.maxConnections())
+                .pendingAcquireMaxCount(properties.pendingAcquireMaxCount())
+                .pendingAcquireTimeout(properties.pendingAcquireTimeout())
+                .maxIdleTime(properties.maxIdleTime())
+                .maxLifeTime(properties.maxLifeTime())
+                .evictInBackground(properties.evictionInterval())
+                .metrics(true)
+                .build();
+    }
+
+    @Bean
+    public ClientHttpConnector dataServiceClientHttpConnector(ConnectionProvider dataServiceConnectionProvider,
+                                                              DataServiceHttpProperties properties) {
+        HttpClient httpClient = HttpClient.create(dataServiceConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) properties.connectTimeout().toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(properties.responseTimeout())
+                // Por petición y no en doOnConnected: Reactor Netty retira el handler al devolver
+                // la conexión al pool, y una conexión reutilizada no vuelve a pasar por doOnConnected
+                .doOnRequest((request, connection) -> connection.addHandlerLast("readTimeout",
+                        new ReadTimeoutHandler(properties.readTimeout().toMillis(), TimeUnit.MILLISECONDS)));
+
+        if (properties.h2c()) {
+            httpClient = httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11);
+        }
+
+        return new ReactorClientHttpConnector(httpClient);
+    }
+
+    /**
+     * Registra {@link ApiEnvelopeDecoder} en los codecs de todo {@code WebClient.Builder}
+     * inyectado. Queda antes del decodificador JSON genérico, así que las respuestas
+     * {@code ApiDBResponse<T>} de {@code UserClient} y {@code AuthClient} se leen con él.
+     *
+     * <p>Hay un decodificador por formato (JSON, CBOR y Smile) y se elige por el
+     * {@code Content-Type} de cada respuesta. El formato preferido se pide con el
+     * {@code Accept} por defecto ({@code data-service.http.encoding}).</p>
+     */
+    @Bean
+    public WebClientCustomizer apiEnvelopeCodecCustomizer(ObjectMapper objectMapper,
+                                                          Jackson2ObjectMapperBuilder mapperBuilder,
+                                                          DataServiceHttpProperties properties) {
+        List<ApiEnvelopeDecoder> decoders = List.of(
+                new ApiEnvelopeDecoder(objectMapper),
+                new ApiEnvelopeDecoder(JacksonConfig.configure(mapperBuilder.factory(new CBORFactory()).build()),
+                        Encoding.CBOR.mediaType()),
+                new ApiEnvelopeDecoder(JacksonConfig.configure(mapperBuilder.factory(new SmileFactory()).build()),
+                        Encoding.SMILE.mediaType()));
+        String accept = properties.encoding().acceptHeader();
+
+        return builder -> builder
+                .defaultHeader(HttpHeaders.ACCEPT, accept)
+                .codecs(codecs -> decoders.forEach(codecs.customCodecs()::registerWithDefaultConfig));
+    }
+}
@@ -1,25 +1,55 @@
 package com.uniquindio.userservice.config;
 
 
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
 
+/**
+ * Configuración del {@link ObjectMapper} compartido por Spring MVC, los clientes HTTP, el
+ * productor de Kafka y el manejo de errores de autenticación.
+ *
+ * <ul>
+ *   <li>{@link BlackbirdModule}: accede a getters y a los accesores de los records con lambdas
+ *       generadas ({@code LambdaMetafactory}) en lugar de reflexión. Los records se leen por su
+ *       constructor canónico sin configuración adicional.</li>
+ *   <li>Pool de buffers compartido entre hilos: el pool por defecto de Jackson usa
+ *       {@code ThreadLocal}, que no reutiliza nada cuando cada petición corre en un hilo
+ *       virtual nuevo (perfil {@code virtual-threads}).</li>
+ * </ul>
+ *
+ * @see JsonWriters
+ */
 @Configuration
 public class JacksonConfig {
 
     @Bean
     public ObjectMapper objectMapper(Jackson2ObjectMapperBuilder builder) {
         // Usa el builder de Spring para mantener otras configuraciones por defecto
-        ObjectMapper mapper = builder.build();
+        return configure(builder.build());
+    }
+
+    /**
+     * Aplica la configuración de la aplicación a un mapper; también se usa con los mappers
+     * de CBOR y Smile (ver {@link HttpClientConfig}).
+     */
+    static <T extends ObjectMapper> T configure(T mapper) {
         // Registrar soporte para java.time (LocalDateTime, LocalDate, etc.)
         mapper.registerModule(new JavaTimeModule());
         // Serializar fechas como ISO strings en vez de timestamps numéricos
         mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.registerModule(new BlackbirdModule());
+        mapper.getFactory().setRecyclerPool(JsonRecyclerPools.sharedConcurrentDequePool());
         return mapper;
     }
-}
 
+    @Bean
+    public JsonWriters jsonWriters(ObjectMapper objectMapper) {
+        return new JsonWriters(objectMapper);
+    }
+}
@@ -0,0 +1,48 @@
+package com.uniquindio.userservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.uniquindio.userservice.dto.ErrorResponse;
+import com.uniquindio.userservice.dto.PaginatedUserResponse;
+import com.uniquindio.userservice.dto.UserResponse;
+import com.uniquindio.userservice.dto.notification.EventMessage;
+
+/**
+ * {@link ObjectWriter}s de los tipos que la aplicación serializa directamente.
+ *
+ * <p>Un {@code ObjectWriter} creado con {@code writerFor} resuelve el serializador del tipo raíz
+ * una sola vez; {@code objectMapper.writeValueAsString(value)} lo busca en cada llamada a
+ * partir de la clase del valor. Los writers son inmutables y se comparten entre hilos.</p>
+ *
+ * @see JacksonConfig
+ */
+public class JsonWriters {
+
+    private final ObjectWriter eventMessage;
+    private final ObjectWriter userResponse;
+    private final ObjectWriter paginatedUserResponse;
+    private final ObjectWriter errorResponse;
+
+    public JsonWriters(ObjectMapper objectMapper) {
+        this.eventMessage = objectMapper.writerFor(EventMessage.class);
+        this.userResponse = objectMapper.writerFor(UserResponse.class);
+        this.paginatedUserResponse = objectMapper.writerFor(PaginatedUserResponse.class);
+        this.errorResponse = objectMapper.writerFor(ErrorResponse.class);
+    }
+
+    public ObjectWriter eventMessage() {
+        return eventMessage;
+    }
+
+    public ObjectWriter userResponse() {
+        return userResponse;
+    }
+
+    public ObjectWriter paginatedUserResponse() {
+        return paginatedUserResponse;
+    }
+
+    public ObjectWriter errorResponse() {
+        return errorResponse;
+    }
+}
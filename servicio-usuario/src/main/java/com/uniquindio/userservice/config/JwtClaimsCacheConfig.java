@@ -0,0 +1,56 @@
+package com.uniquindio.userservice.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+
+/**
+ * Caché de los {@link Claims} de tokens JWT cuya firma ya se verificó, usada por
+ * {@code JwtUtils}. La clave es el SHA-256 del token, no el token.
+ *
+ * <p>Cada entrada vence con el {@code exp} del token (o con {@code jwt.claims-cache.max-ttl} si
+ * llega antes), así que un token expirado nunca se acepta desde la caché. Las métricas se
+ * publican como {@code cache.gets} (hit/miss), {@code cache.evictions} y {@code cache.size}
+ * con la etiqueta {@code cache=jwt-claims}.</p>
+ *
+ * @see JwtClaimsCacheProperties
+ */
+@Configuration
+@EnableConfigurationProperties(JwtClaimsCacheProperties.class)
+public class JwtClaimsCacheConfig {
+
+    public static final String CACHE_NAME = "jwt-claims";
+
+    @Bean
+    public Cache<String, Claims> jwtClaimsCache(JwtClaimsCacheProperties properties, MeterRegistry meterRegistry) {
+        Duration maxTtl = properties.maxTtl();
+        Cache<String, Claims> cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfter(Expiry.creating((String digest, Claims claims) -> lifetime(claims, maxTtl)))
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    private static Duration lifetime(Claims claims, Duration maxTtl) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return maxTtl;
+        }
+        Duration untilExpiration = Duration.between(Instant.now(), expiration.toInstant());
+        if (untilExpiration.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilExpiration.compareTo(maxTtl) < 0 ? untilExpiration : maxTtl;
+    }
+}
@@ -0,0 +1,21 @@
+package com.uniquindio.userservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la caché de tokens JWT ya verificados (prefijo {@code jwt.claims-cache}).
+ *
+ * @param maximumSize número máximo de tokens en caché
+ * @param maxTtl      tiempo máximo que un token verificado permanece en caché. Cada entrada
+ *                    vence además con el {@code exp} del token, lo que ocurra primero
+ * @see JwtClaimsCacheConfig
+ */
+@ConfigurationProperties("jwt.claims-cache")
+public record JwtClaimsCacheProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("5m") Duration maxTtl
+) {
+}
@@ -0,0 +1,33 @@
+package com.uniquindio.userservice.config;
+
+import com.uniquindio.userservice.util.SigningAlgorithm;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuración de las llaves de firma de los JWT (prefijo {@code jwt.keys}).
+ *
+ * @param directory   directorio con las llaves PEM. Si no se indica, se usa el directorio de
+ *                    {@code PRIVATE_KEY_PATH}/{@code PUBLIC_KEY_PATH}
+ * @param signingAlgorithm algoritmo de los tokens nuevos: {@code RS256}, {@code ES256} o
+ *                    {@code EDDSA}. Debe haber un par de llaves de ese tipo; los tokens firmados
+ *                    con llaves de otro tipo del directorio se siguen aceptando
+ * @param watch       recarga las llaves cuando cambia el contenido del directorio
+ * @param reloadDelay espera tras el primer cambio antes de recargar, para agrupar las escrituras
+ *                    de una misma rotación
+ * @param jwksMaxAge  {@code max-age} de {@code /.well-known/jwks.json}; tras una rotación, otros
+ *                    servicios pueden tardar hasta este tiempo en ver la llave nueva
+ * @see com.uniquindio.userservice.util.KeyRing
+ */
+@ConfigurationProperties("jwt.keys")
+public record JwtKeyProperties(
+        Path directory,
+        @DefaultValue("RS256") SigningAlgorithm signingAlgorithm,
+        @DefaultValue("true") boolean watch,
+        @DefaultValue("500ms") Duration reloadDelay,
+        @DefaultValue("5m") Duration jwksMaxAge
+) {
+}
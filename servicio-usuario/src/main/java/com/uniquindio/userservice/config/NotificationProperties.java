@@ -0,0 +1,25 @@
+package com.uniquindio.userservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Publicación de eventos de usuario en Kafka (prefijo {@code notifications}). La configuración
+ * del productor (lotes, compresión, idempotencia) está en {@code spring.kafka.producer.*}.
+ *
+ * @param topic       topic de los eventos
+ * @param maxInFlight envíos pendientes de confirmación del broker permitidos; con el límite
+ *                    alcanzado los eventos nuevos se descartan en vez de esperar, salvo la
+ *                    solicitud de OTP, que se rechaza con 503
+ * @param retryAfter  valor del encabezado {@code Retry-After} de esos rechazos
+ * @see com.uniquindio.userservice.client.UserNotificationProducer
+ */
+@ConfigurationProperties("notifications")
+public record NotificationProperties(
+        @DefaultValue("user-events") String topic,
+        @DefaultValue("1000") int maxInFlight,
+        @DefaultValue("1s") Duration retryAfter
+) {
+}
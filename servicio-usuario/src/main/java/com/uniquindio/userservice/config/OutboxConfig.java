@@ -0,0 +1,39 @@
+package com.uniquindio.userservice.config;
+
+import com.uniquindio.userservice.util.OutboxLog;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+
+/**
+ * Abre el {@link OutboxLog} de eventos de usuario al arrancar, lo que vuelve a poner en cola lo
+ * que quedó sin enviar en la ejecución anterior. Publica {@code outbox.backlog} (bytes sin
+ * confirmar) y {@code outbox.segments}.
+ *
+ * @see OutboxProperties
+ * @see com.uniquindio.userservice.client.OutboxRelay
+ */
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public OutboxLog outboxLog(OutboxProperties properties, MeterRegistry meterRegistry) throws IOException {
+        OutboxLog outboxLog = OutboxLog.open(properties.directory(),
+                Math.toIntExact(properties.segmentSize().toBytes()), properties.forceOnAppend());
+        Gauge.builder("outbox.backlog", outboxLog, OutboxLog::backlogBytes)
+                .description("Bytes del outbox pendientes de envío a Kafka")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("outbox.segments", outboxLog, OutboxLog::segmentCount)
+                .description("Segmentos del outbox en disco")
+                .register(meterRegistry);
+        return outboxLog;
+    }
+}
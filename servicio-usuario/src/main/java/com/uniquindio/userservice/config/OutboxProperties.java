@@ -0,0 +1,35 @@
+package com.uniquindio.userservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Outbox local de eventos de usuario (prefijo {@code outbox}). Solo guarda los eventos de
+ * registro y cambio de contraseña (ver {@link com.uniquindio.userservice.client.UserNotificationProducer}).
+ *
+ * @param enabled       si esos eventos pasan por el outbox; si no, se envían directo a Kafka
+ * @param directory     directorio de los segmentos y del offset confirmado
+ * @param segmentSize   tamaño de cada segmento mapeado en memoria
+ * @param forceOnAppend si cada evento se fuerza a disco antes de responder la petición
+ * @param batchSize     eventos enviados a Kafka por lote
+ * @param pollInterval  espera entre lecturas del outbox cuando no hay eventos pendientes
+ * @param sendTimeout   tiempo máximo de espera de la confirmación de un lote
+ * @param retryBackoff  espera antes de reintentar un lote que falló
+ * @see OutboxConfig
+ */
+@ConfigurationProperties("outbox")
+public record OutboxProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("outbox") Path directory,
+        @DefaultValue("16MB") DataSize segmentSize,
+        @DefaultValue("false") boolean forceOnAppend,
+        @DefaultValue("500") int batchSize,
+        @DefaultValue("100ms") Duration pollInterval,
+        @DefaultValue("30s") Duration sendTimeout,
+        @DefaultValue("5s") Duration retryBackoff
+) {
+}
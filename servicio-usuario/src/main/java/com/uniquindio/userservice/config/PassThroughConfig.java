@@ -0,0 +1,24 @@
+package com.uniquindio.userservice.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Registra el conversor de {@link com.uniquindio.userservice.dto.RawJson} usado por el modo
+ * pass-through. El conversor se registra siempre: solo actúa sobre respuestas de ese tipo.
+ *
+ * @see DataServicePassThroughProperties
+ */
+@Configuration
+@EnableConfigurationProperties(DataServicePassThroughProperties.class)
+public class PassThroughConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new RawJsonHttpMessageConverter());
+    }
+}
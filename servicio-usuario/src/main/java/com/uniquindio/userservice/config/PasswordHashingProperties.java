@@ -0,0 +1,66 @@
+package com.uniquindio.userservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuración del hashing de contraseñas (prefijo {@code password-hashing}): algoritmo y
+ * costo de los hashes nuevos, y tamaño del pool que los calcula.
+ *
+ * <p>Para elegir el costo según el hardware se puede usar
+ * {@link com.uniquindio.userservice.util.PasswordHashCalibrator}.</p>
+ *
+ * @param threads           hilos dedicados al hashing; {@code 0} usa el número de núcleos
+ * @param queueCapacity     hashes que pueden esperar turno; con la cola llena las peticiones
+ *                          nuevas se rechazan con 503
+ * @param retryAfter        valor del encabezado {@code Retry-After} de esos rechazos
+ * @param algorithm         algoritmo de los hashes nuevos
+ * @param bcryptStrength    costo de BCrypt (log2 de las rondas, entre 4 y 31)
+ * @param argon2Memory      memoria de Argon2id en KiB
+ * @param argon2Iterations  iteraciones de Argon2id
+ * @param argon2Parallelism paralelismo de Argon2id
+ * @param upgradeOnLogin    si un login correcto con un hash de otro algoritmo o de menor costo
+ *                          lo reemplaza por uno con la configuración actual
+ * @see ExecutionConfig
+ */
+@ConfigurationProperties("password-hashing")
+public record PasswordHashingProperties(
+        @DefaultValue("0") int threads,
+        @DefaultValue("64") int queueCapacity,
+        @DefaultValue("1s") Duration retryAfter,
+        @DefaultValue("bcrypt") Algorithm algorithm,
+        @DefaultValue("10") int bcryptStrength,
+        @DefaultValue("19456") int argon2Memory,
+        @DefaultValue("2") int argon2Iterations,
+        @DefaultValue("1") int argon2Parallelism,
+        @DefaultValue("true") boolean upgradeOnLogin
+) {
+
+    /**
+     * @return el número efectivo de hilos del pool
+     */
+    public int effectiveThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Algoritmos de hash soportados. El id es el prefijo que se guarda con cada hash,
+     * por ejemplo {@code {argon2}$argon2id$v=19$m=19456,t=2,p=1$...}.
+     */
+    public enum Algorithm {
+        BCRYPT("bcrypt"),
+        ARGON2("argon2");
+
+        private final String id;
+
+        Algorithm(String id) {
+            this.id = id;
+        }
+
+        public String id() {
+            return id;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.uniquindio.userservice.config;
+
+import com.uniquindio.userservice.dto.RawJson;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+
+/**
+ * Escribe un {@link RawJson} directamente en la respuesta como {@code application/json}.
+ * Solo escribe: no se usa para leer cuerpos de peticiones.
+ */
+public class RawJsonHttpMessageConverter extends AbstractHttpMessageConverter<RawJson> {
+
+    public RawJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return RawJson.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected RawJson readInternal(Class<? extends RawJson> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("RawJson solo se usa en respuestas", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(RawJson json, MediaType contentType) {
+        return (long) json.length();
+    }
+
+    @Override
+    protected void writeInternal(RawJson json, HttpOutputMessage outputMessage) throws IOException {
+        outputMessage.getBody().write(json.bytes(), json.offset(), json.length());
+    }
+}
@@ -0,0 +1,27 @@
+package com.uniquindio.userservice.config;
+
+import com.uniquindio.userservice.util.InMemoryRefreshTokenStore;
+import com.uniquindio.userservice.util.RefreshTokenStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Almacén de refresh tokens. Se usa {@link InMemoryRefreshTokenStore} salvo que la aplicación
+ * declare su propio {@link RefreshTokenStore}. Las métricas del almacén en memoria se publican
+ * con la etiqueta {@code cache=refresh-tokens}.
+ *
+ * @see RefreshTokenProperties
+ */
+@Configuration
+@EnableConfigurationProperties(RefreshTokenProperties.class)
+public class RefreshTokenConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(RefreshTokenStore.class)
+    public RefreshTokenStore refreshTokenStore(RefreshTokenProperties properties, MeterRegistry meterRegistry) {
+        return new InMemoryRefreshTokenStore(properties.maximumSize(), properties.ttl(), meterRegistry);
+    }
+}
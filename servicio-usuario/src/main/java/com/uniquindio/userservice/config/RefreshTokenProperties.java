@@ -0,0 +1,20 @@
+package com.uniquindio.userservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuración de los refresh tokens (prefijo {@code jwt.refresh-token}).
+ *
+ * @param ttl         vida máxima de una sesión desde el login; las rotaciones no la extienden
+ * @param maximumSize número máximo de tokens en el almacén en memoria
+ * @see RefreshTokenConfig
+ */
+@ConfigurationProperties("jwt.refresh-token")
+public record RefreshTokenProperties(
+        @DefaultValue("30d") Duration ttl,
+        @DefaultValue("100000") long maximumSize
+) {
+}
@@ -1,8 +1,13 @@
 package com.uniquindio.userservice.config;
 
+import com.uniquindio.userservice.controller.JwksController;
 import com.uniquindio.userservice.exceptionHandler.CustomAuthEntryPoint;
 import com.uniquindio.userservice.filter.JwtAuthFilter;
+import com.uniquindio.userservice.filter.PublicRoutes;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -10,17 +15,27 @@ import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.annotation.web.configurers.HeadersConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.header.writers.CacheControlHeadersWriter;
+import org.springframework.security.web.header.writers.DelegatingRequestMatcherHeaderWriter;
+import org.springframework.security.web.util.matcher.NegatedRequestMatcher;
+
+import java.util.regex.Pattern;
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(JwtKeyProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final Pattern CONDITIONAL_USER_READ = Pattern.compile("/api/v1/users(/\\d+)?/?");
+
     private final JwtAuthFilter jwtAuthFilter;
     private final CustomAuthEntryPoint customAuthEntryPoint;
+    private final PublicRoutes publicRoutes;
 
 
     @Bean
@@ -30,26 +45,37 @@ public class SecurityConfig {
                 .cors(Customizer.withDefaults())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
-                        .requestMatchers(
-                                "/api/v1/auth/**",
-                                "/api/v1/users/*/password",
-                                "/api/v1/users/*/account_status",
-                                "/swagger-ui/**",
-                                "/swagger-ui.html",
-                                "/v3/api-docs/**",
-                                "/v3/api-docs.yaml",
-                                "/swagger-resources/**",
-                                "/webjars/**",
-                                "/openapi.json")
-                        .permitAll()
-                        .requestMatchers(HttpMethod.POST,"/api/v1/users").permitAll()
+                        // Re-despacho ASYNC de los endpoints que retornan Mono/Flux: la petición ya fue autorizada
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        // Las mismas rutas públicas que omite JwtAuthFilter
+                        .requestMatchers(publicRoutes::matches).permitAll()
                         .anyRequest().authenticated()
                 )
+                // Las consultas con ETag definen su propio Cache-Control (private, no-cache; public en el
+                // JWKS); en las respuestas asíncronas el valor por defecto (no-store) se escribiría antes
+                // y quedarían ambos
+                .headers(headers -> headers
+                        .cacheControl(HeadersConfigurer.CacheControlConfig::disable)
+                        .addHeaderWriter(new DelegatingRequestMatcherHeaderWriter(
+                                new NegatedRequestMatcher(SecurityConfig::isConditionalRead),
+                                new CacheControlHeadersWriter())))
                 .addFilterBefore(jwtAuthFilter, UsernamePasswordAuthenticationFilter.class)
                 .exceptionHandling(ex -> ex.authenticationEntryPoint(customAuthEntryPoint))
                 .build();
 
 
     }
+
+    /**
+     * GET de un usuario, de una página de usuarios o del JWKS: las respuestas que llevan ETag
+     * (ver {@link com.uniquindio.userservice.util.ResourceETags} y {@link JwksController}).
+     */
+    private static boolean isConditionalRead(HttpServletRequest request) {
+        if (!HttpMethod.GET.matches(request.getMethod())) {
+            return false;
+        }
+        String uri = request.getRequestURI();
+        return CONDITIONAL_USER_READ.matcher(uri).matches() || JwksController.PATH.equals(uri);
+    }
 }
 
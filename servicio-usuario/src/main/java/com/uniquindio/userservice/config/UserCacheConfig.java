@@ -0,0 +1,36 @@
+package com.uniquindio.userservice.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.uniquindio.userservice.dto.UserResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Caché local (near-cache) de {@link UserResponse} por id, usada por {@code UserClient}.
+ *
+ * <p>Las métricas se publican en Actuator como {@code cache.gets} (hit/miss),
+ * {@code cache.puts}, {@code cache.evictions} y {@code cache.size} con la etiqueta
+ * {@code cache=users}.</p>
+ *
+ * @see UserCacheProperties
+ */
+@Configuration
+@EnableConfigurationProperties(UserCacheProperties.class)
+public class UserCacheConfig {
+
+    public static final String CACHE_NAME = "users";
+
+    @Bean
+    public Cache<Integer, UserResponse> userCache(UserCacheProperties properties, MeterRegistry meterRegistry) {
+        Cache<Integer, UserResponse> cache = Caffeine.newBuilder()
+                .maximumSize(properties.maximumSize())
+                .expireAfterWrite(properties.ttl())
+                .recordStats()
+                .build();
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+}
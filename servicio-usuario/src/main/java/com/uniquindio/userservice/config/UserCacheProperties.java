@@ -0,0 +1,22 @@
+package com.uniquindio.userservice.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la caché local de usuarios por id (prefijo {@code user-cache}).
+ *
+ * @param maximumSize número máximo de usuarios en caché; al superarlo Caffeine descarta
+ *                    las entradas con menor frecuencia de uso (W-TinyLFU)
+ * @param ttl         tiempo máximo que una entrada permanece en caché desde que se escribió.
+ *                    Acota cuánto tarda en verse un cambio hecho por otra instancia del servicio
+ * @see UserCacheConfig
+ */
+@ConfigurationProperties("user-cache")
+public record UserCacheProperties(
+        @DefaultValue("10000") long maximumSize,
+        @DefaultValue("60s") Duration ttl
+) {
+}
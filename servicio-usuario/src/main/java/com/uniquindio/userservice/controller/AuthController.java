@@ -1,8 +1,10 @@
 package com.uniquindio.userservice.controller;
 
+import com.uniquindio.userservice.annotation.RateLimited;
 import com.uniquindio.userservice.dto.*;
 import com.uniquindio.userservice.service.interfaces.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.headers.Header;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,6 +13,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -20,32 +23,75 @@ import org.springframework.web.bind.annotation.*;
 @RestController
 @RequestMapping("/api/v1/auth")
 @RequiredArgsConstructor
+@Profile("!reactive")
 @Slf4j
 @Tag(name = "Autenticación", description = "Endpoints para login, OTP y recuperación de contraseña")
 public class AuthController {
 
+    /**
+     * Encabezado con el refresh token emitido por el login y por cada renovación.
+     */
+    public static final String REFRESH_TOKEN_HEADER = "X-Refresh-Token";
+
     private final AuthService authService;
 
     /**
-     * Inicia sesión y retorna el JWT.
+     * Inicia sesión y retorna el JWT. El refresh token se envía en {@value #REFRESH_TOKEN_HEADER}.
      */
     @Operation(
             summary = "Iniciar sesión",
-            description = "Permite autenticar un usuario con email y contraseña. Devuelve un token JWT si las credenciales son correctas."
+            description = "Permite autenticar un usuario con email y contraseña. Devuelve un token JWT si las credenciales son correctas " +
+                    "y un refresh token en el encabezado " + REFRESH_TOKEN_HEADER + "."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Login exitoso",
+                    headers = @Header(name = REFRESH_TOKEN_HEADER, description = "Refresh token para POST /api/v1/auth/refresh"),
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."))),
             @ApiResponse(responseCode = "400", description = "Datos inválidos"),
-            @ApiResponse(responseCode = "401", description = "Credenciales incorrectas")
+            @ApiResponse(responseCode = "401", description = "Credenciales incorrectas"),
+            @ApiResponse(responseCode = "429", description = "Demasiados intentos para el email o la IP; reintentar tras Retry-After"),
+            @ApiResponse(responseCode = "503", description = "Demasiados logins simultáneos; reintentar tras Retry-After")
     })
     @PostMapping("/login")
+    @RateLimited("login")
     public ResponseEntity<String> login(@RequestBody @Valid LoginRequest loginRequest) {
         log.info("🔐 Login solicitado para: {}", loginRequest.email());
-        String token = authService.login(loginRequest);
+        AuthTokens tokens = authService.login(loginRequest);
         log.info("✅ Login exitoso para: {}", loginRequest.email());
-        return ResponseEntity.ok(token);
+        return withRefreshToken(tokens);
+    }
+
+    /**
+     * Renueva el JWT con un refresh token, sin volver a enviar la contraseña.
+     */
+    @Operation(
+            summary = "Renovar token",
+            description = "Canjea un refresh token por un nuevo token JWT y un nuevo refresh token (encabezado " +
+                    REFRESH_TOKEN_HEADER + "). Cada refresh token sirve una sola vez: reutilizarlo revoca la sesión. " +
+                    "La sesión vence a los jwt.refresh-token.ttl del login y se revoca al recuperar la contraseña " +
+                    "o eliminar la cuenta."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Token renovado",
+                    headers = @Header(name = REFRESH_TOKEN_HEADER, description = "Nuevo refresh token"),
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."))),
+            @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+            @ApiResponse(responseCode = "401", description = "Refresh token inválido, expirado, revocado o reutilizado, o cuenta eliminada"),
+            @ApiResponse(responseCode = "503", description = "Error al comunicarse con el servicio de usuarios")
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<String> refresh(@RequestBody @Valid RefreshTokenRequest request) {
+        AuthTokens tokens = authService.refresh(request);
+        log.info("🔄 Token renovado");
+        return withRefreshToken(tokens);
+    }
+
+    static ResponseEntity<String> withRefreshToken(AuthTokens tokens) {
+        return ResponseEntity.ok()
+                .header(REFRESH_TOKEN_HEADER, tokens.refreshToken())
+                .body(tokens.accessToken());
     }
 
     /**
@@ -60,9 +106,12 @@ public class AuthController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = OtpResponse.class))),
             @ApiResponse(responseCode = "400", description = "Datos inválidos"),
-            @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
+            @ApiResponse(responseCode = "404", description = "Usuario no encontrado"),
+            @ApiResponse(responseCode = "429", description = "Demasiados intentos para el email o la IP; reintentar tras Retry-After"),
+            @ApiResponse(responseCode = "503", description = "No se puede enviar el correo en este momento; reintentar tras Retry-After")
     })
     @PostMapping("/otp")
+    @RateLimited("otp")
     public ResponseEntity<OtpResponse> requestOtp(@RequestBody @Valid OtpRequest request) {
         log.info("📩 Solicitud de OTP para: {}", request.email());
         OtpResponse otp = authService.requestOtp(request);
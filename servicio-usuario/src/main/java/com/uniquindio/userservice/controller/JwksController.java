@@ -0,0 +1,54 @@
+package com.uniquindio.userservice.controller;
+
+import com.uniquindio.userservice.config.JwtKeyProperties;
+import com.uniquindio.userservice.util.KeyRing;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Publica las llaves públicas de firma de los JWT (JWKS, RFC 7517) para que otros servicios
+ * verifiquen los tokens localmente, eligiendo la llave por el {@code kid} del token.
+ *
+ * <p>El documento se serializa una vez por rotación ({@link KeyRing}); la respuesta lleva ETag
+ * y {@code Cache-Control: public, max-age} ({@code jwt.keys.jwks-max-age}).</p>
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Autenticación", description = "Endpoints para login, OTP y recuperación de contraseña")
+public class JwksController {
+
+    public static final String PATH = "/.well-known/jwks.json";
+
+    private static final MediaType JWK_SET = new MediaType("application", "jwk-set+json");
+
+    private final KeyRing keyRing;
+    private final JwtKeyProperties properties;
+
+    @Operation(
+            summary = "Llaves públicas de firma (JWKS)",
+            description = "Devuelve las llaves públicas vigentes para verificar los JWT emitidos por el servicio."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Conjunto de llaves",
+                    content = @Content(mediaType = "application/jwk-set+json")),
+            @ApiResponse(responseCode = "304", description = "Las llaves no cambiaron desde el ETag enviado en If-None-Match")
+    })
+    @GetMapping(PATH)
+    public ResponseEntity<byte[]> getKeys() {
+        KeyRing.PublishedKeys keys = keyRing.publishedKeys();
+        return ResponseEntity.ok()
+                .eTag(keys.eTag())
+                .cacheControl(CacheControl.maxAge(properties.jwksMaxAge()).cachePublic())
+                .contentType(JWK_SET)
+                .body(keys.json());
+    }
+}
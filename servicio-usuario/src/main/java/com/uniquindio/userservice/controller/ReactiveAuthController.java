@@ -0,0 +1,64 @@
+package com.uniquindio.userservice.controller;
+
+import com.uniquindio.userservice.annotation.RateLimited;
+import com.uniquindio.userservice.dto.*;
+import com.uniquindio.userservice.service.interfaces.ReactiveAuthService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador no bloqueante de autenticación, activo con el perfil {@code reactive}.
+ *
+ * @see AuthController
+ */
+@RestController
+@RequestMapping("/api/v1/auth")
+@RequiredArgsConstructor
+@Profile("reactive")
+@Slf4j
+@Tag(name = "Autenticación", description = "Endpoints para login, OTP y recuperación de contraseña")
+public class ReactiveAuthController {
+
+    private final ReactiveAuthService authService;
+
+    @Operation(summary = "Iniciar sesión")
+    @PostMapping("/login")
+    @RateLimited("login")
+    public Mono<ResponseEntity<String>> login(@RequestBody @Valid LoginRequest loginRequest) {
+        log.info("🔐 Login solicitado para: {}", loginRequest.email());
+        return authService.login(loginRequest)
+                .map(tokens -> {
+                    log.info("✅ Login exitoso para: {}", loginRequest.email());
+                    return AuthController.withRefreshToken(tokens);
+                });
+    }
+
+    @Operation(summary = "Renovar token")
+    @PostMapping("/refresh")
+    public Mono<ResponseEntity<String>> refresh(@RequestBody @Valid RefreshTokenRequest request) {
+        return authService.refresh(request)
+                .map(tokens -> {
+                    log.info("🔄 Token renovado");
+                    return AuthController.withRefreshToken(tokens);
+                });
+    }
+
+    @Operation(summary = "Generar OTP")
+    @PostMapping("/otp")
+    @RateLimited("otp")
+    public Mono<ResponseEntity<OtpResponse>> requestOtp(@RequestBody @Valid OtpRequest request) {
+        log.info("📩 Solicitud de OTP para: {}", request.email());
+        return authService.requestOtp(request)
+                .map(otp -> {
+                    log.info("✅ OTP generado para: {}.", request.email());
+                    return ResponseEntity.ok(otp);
+                });
+    }
+}
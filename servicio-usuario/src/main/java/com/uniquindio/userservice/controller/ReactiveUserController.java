@@ -0,0 +1,178 @@
+package com.uniquindio.userservice.controller;
+
+import com.uniquindio.userservice.config.DataServicePassThroughProperties;
+import com.uniquindio.userservice.dto.*;
+import com.uniquindio.userservice.service.interfaces.ReactiveUserService;
+import com.uniquindio.userservice.util.ResourceETags;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * Controlador no bloqueante para la gestión de usuarios, activo con el perfil {@code reactive}.
+ *
+ * <p>Expone exactamente las mismas rutas y contratos que {@link UserController}, pero cada
+ * endpoint devuelve un {@link Mono}. Spring MVC procesa estos valores de retorno de forma
+ * asíncrona: el hilo de Tomcat se libera en cuanto el método retorna y la respuesta se
+ * escribe cuando el servicio de datos contesta.</p>
+ *
+ * <p>Los datos que dependen de la petición actual (por ejemplo la URI de {@code Location})
+ * se calculan antes de retornar el {@link Mono}, mientras el hilo de la petición sigue
+ * disponible.</p>
+ *
+ * @see UserController
+ * @see ReactiveUserService
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/users")
+@Profile("reactive")
+@Slf4j
+@Tag(name = "Usuarios", description = "Endpoints para gestión de usuarios (CRUD, paginación, eliminación lógica)")
+public class ReactiveUserController {
+
+    private final ReactiveUserService userService;
+    private final DataServicePassThroughProperties passThrough;
+
+    @Operation(summary = "Registrar nuevo usuario")
+    @PostMapping
+    public Mono<ResponseEntity<UserResponse>> registerUser(
+            @RequestBody @Valid UserRegistration userRegistration) {
+
+        log.info("Solicitud recibida para registrar usuario: {}", userRegistration.email());
+        UriComponentsBuilder location = ServletUriComponentsBuilder.fromCurrentRequest().path("/{id}");
+
+        return userService.registerUser(userRegistration)
+                .map(userResponse -> {
+                    URI uri = location.buildAndExpand(userResponse.id()).toUri();
+                    log.info("Usuario registrado exitosamente: id={}, email={}", userResponse.id(), userResponse.email());
+                    return ResponseEntity.created(uri).body(userResponse);
+                });
+    }
+
+    @Operation(summary = "Obtener lista paginada de usuarios")
+    @GetMapping
+    public Mono<? extends ResponseEntity<?>> getUsers(
+            @Parameter(description = "Número de página (mínimo 1)", example = "1")
+            @RequestParam(defaultValue = "1") @Positive int page,
+            @Parameter(description = "Tamaño de la página (mínimo 1, máximo 100)", example = "10")
+            @RequestParam(defaultValue = "10") @Positive int size) {
+
+        log.info("📋 Consultando usuarios - Página: {}, Tamaño: {}", page, size);
+        if (passThrough.enabled()) {
+            return userService.getUsersJson(page, size)
+                    .map(json -> {
+                        log.info("✅ Página de usuarios reenviada ({} bytes)", json.length());
+                        return ResourceETags.conditionalOk(json, ResourceETags.ofUserPage(json));
+                    });
+        }
+        return userService.getUsers(page, size)
+                .map(response -> {
+                    log.info("✅ Total de usuarios recuperados: {}", response.totalItems());
+                    return ResourceETags.conditionalOk(response, ResourceETags.of(response));
+                });
+    }
+
+    @Operation(summary = "Obtener usuarios por cursor")
+    @GetMapping(params = "after")
+    public Mono<ResponseEntity<CursorUserResponse>> getUsersByCursor(
+            @Parameter(description = "Cursor devuelto en 'nextCursor' (vacío para la primera página)", example = "dToxMjA")
+            @RequestParam String after,
+            @Parameter(description = "Tamaño de la página (mínimo 1, máximo 100)", example = "10")
+            @RequestParam(defaultValue = "10") @Positive @Max(100) int size) {
+
+        log.info("📋 Consultando usuarios por cursor - Tamaño: {}", size);
+        return userService.getUsers(after, size)
+                .map(response -> {
+                    log.info("✅ Usuarios recuperados: {}", response.users().size());
+                    return ResourceETags.conditionalOk(response, ResourceETags.of(response));
+                });
+    }
+
+    @Operation(summary = "Consultar usuario por ID")
+    @GetMapping("/{userId}")
+    public Mono<? extends ResponseEntity<?>> getUser(
+            @Parameter(description = "Identificador único del usuario", example = "101")
+            @PathVariable int userId) {
+
+        log.info("🔎 Consultando usuario con ID: {}", userId);
+        if (passThrough.enabled()) {
+            return userService.getUserJson(userId)
+                    .map(json -> {
+                        log.info("✅ Usuario encontrado: {}", userId);
+                        return ResourceETags.conditionalOk(json, ResourceETags.ofUser(json));
+                    });
+        }
+        return userService.getUser(userId)
+                .map(response -> {
+                    log.info("✅ Usuario encontrado: {}", response.email());
+                    return ResourceETags.conditionalOk(response, ResourceETags.of(response));
+                });
+    }
+
+    @Operation(summary = "Actualizar usuario")
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<UserResponse>> updateUser(
+            @Parameter(description = "Identificador único del usuario", example = "101")
+            @PathVariable int id,
+            @Valid @RequestBody UserUpdateRequest userUpdateRequest) {
+
+        log.info("✏️ Actualizando usuario con ID: {}", id);
+        String location = ServletUriComponentsBuilder.fromCurrentRequest().build().toUri().toString();
+
+        return userService.updateUser(id, userUpdateRequest)
+                .map(response -> {
+                    log.info("✅ Usuario actualizado: {}", response.email());
+                    return ResponseEntity.ok()
+                            .header(HttpHeaders.LOCATION, location)
+                            .body(response);
+                });
+    }
+
+    @Operation(summary = "Eliminar usuario")
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteUser(
+            @Parameter(description = "Identificador único del usuario", example = "101")
+            @PathVariable int id) {
+
+        log.info("🗑️ Eliminando usuario con ID: {}", id);
+        return userService.deleteUser(id)
+                .then(Mono.fromSupplier(() -> {
+                    log.info("✅ Usuario con ID: {} eliminado correctamente", id);
+                    return ResponseEntity.noContent().<Void>build();
+                }));
+    }
+
+    @Operation(summary = "Recuperar contraseña")
+    @PatchMapping("/{id}/password")
+    public Mono<ResponseEntity<String>> updatePassword(@RequestBody @Valid PasswordRecoveryRequest request, @PathVariable int id) {
+        log.info("🔑 Recuperación de contraseña solicitada para: {}", id);
+        return userService.updatePassword(request, id)
+                .map(updated -> {
+                    log.info("✅ Contraseña actualizada para: {}", id);
+                    return ResponseEntity.ok("Contraseña reestablecida para el usuario");
+                });
+    }
+
+    @Operation(summary = "Actualizar estado de cuenta", description = "Permite verificar o cambiar el estado de la cuenta de un usuario")
+    @PatchMapping("/{id}/account_status")
+    public Mono<ResponseEntity<AccountStatusResponse>> updateAccountStatus(@PathVariable int id) {
+        log.info("🔄 Actualizando estado de cuenta del usuario {} a {}", id, UserAccountStatusEnum.VERIFIED);
+        return userService.verifyUserAccount(id)
+                .map(ResponseEntity::ok);
+    }
+}
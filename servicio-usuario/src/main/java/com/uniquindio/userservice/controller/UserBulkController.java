@@ -0,0 +1,104 @@
+package com.uniquindio.userservice.controller;
+
+import com.uniquindio.userservice.dto.UserBatchRequest;
+import com.uniquindio.userservice.dto.UserResponse;
+import com.uniquindio.userservice.service.interfaces.ReactiveUserService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Endpoints de consulta de varios usuarios en una sola petición: consulta por lote de ids y
+ * exportación completa en streaming.
+ *
+ * <p>Está activo con y sin el perfil {@code reactive}: devuelve {@link Mono} y Spring MVC
+ * lo procesa de forma asíncrona en ambos casos.</p>
+ *
+ * @see ReactiveUserService#getUsersByIds(List)
+ * @see ReactiveUserService#streamUsers()
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("api/v1/users")
+@Slf4j
+@Tag(name = "Usuarios", description = "Endpoints para gestión de usuarios (CRUD, paginación, eliminación lógica)")
+public class UserBulkController {
+
+    private final ReactiveUserService userService;
+
+    @Operation(
+            summary = "Consultar varios usuarios por ID",
+            description = "Obtiene hasta 100 usuarios en una sola petición. Los IDs inexistentes se omiten de la respuesta."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Usuarios encontrados, en el orden solicitado",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = UserResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Lista de IDs vacía, inválida o con más de 100 elementos")
+    })
+    @GetMapping("/batch")
+    public Mono<ResponseEntity<List<UserResponse>>> getUsersByIds(
+            @Parameter(description = "Identificadores separados por coma (máximo 100)", example = "1,2,3")
+            @RequestParam @NotEmpty @Size(max = 100) List<@Positive Integer> ids) {
+
+        return findUsers(new UserBatchRequest(ids));
+    }
+
+    @Operation(
+            summary = "Consultar varios usuarios por ID (POST)",
+            description = "Igual que la consulta GET, pero recibe los IDs en el cuerpo de la petición."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Usuarios encontrados, en el orden solicitado",
+                    content = @Content(mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = UserResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Lista de IDs vacía, inválida o con más de 100 elementos")
+    })
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<List<UserResponse>>> getUsersByIdsPost(
+            @RequestBody @Valid UserBatchRequest request) {
+
+        return findUsers(request);
+    }
+
+    @Operation(
+            summary = "Exportar todos los usuarios (NDJSON)",
+            description = "Emite todos los usuarios como JSON delimitado por saltos de línea, un usuario por línea. "
+                    + "Las páginas se piden al servicio de datos a medida que el cliente lee la respuesta."
+    )
+    @ApiResponse(responseCode = "200", description = "Flujo de usuarios",
+            content = @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                    schema = @Schema(implementation = UserResponse.class)))
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<UserResponse> streamUsers() {
+        log.info("📤 Exportando usuarios en streaming");
+        return userService.streamUsers();
+    }
+
+    private Mono<ResponseEntity<List<UserResponse>>> findUsers(UserBatchRequest request) {
+        log.info("🔎 Consultando {} usuarios por ID", request.ids().size());
+        return userService.getUsersByIds(request.ids())
+                .map(users -> {
+                    log.info("✅ Usuarios encontrados: {} de {}", users.size(), request.ids().size());
+                    return ResponseEntity.ok(users);
+                });
+    }
+}
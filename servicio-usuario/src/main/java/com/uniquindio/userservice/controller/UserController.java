@@ -1,7 +1,9 @@
 package com.uniquindio.userservice.controller;
 
+import com.uniquindio.userservice.config.DataServicePassThroughProperties;
 import com.uniquindio.userservice.dto.*;
 import com.uniquindio.userservice.service.interfaces.UserService;
+import com.uniquindio.userservice.util.ResourceETags;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -10,9 +12,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -37,6 +41,7 @@ import java.net.URI;
  *   <li>Headers de ubicación para recursos creados/actualizados</li>
  *   <li>Logging estructurado con emojis para mejor legibilidad</li>
  *   <li>Paginación para listas de usuarios</li>
+ *   <li>ETags débiles ({@code W/"..."}) y respuestas 304 en las consultas; {@link ResourceETags} explica por qué no son fuertes</li>
  * </ul>
  *
  * <p><strong>Seguridad:</strong> Algunos endpoints pueden requerir autenticación y autorización
@@ -55,11 +60,13 @@ import java.net.URI;
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("api/v1/users")
+@Profile("!reactive")
 @Slf4j
 @Tag(name = "Usuarios", description = "Endpoints para gestión de usuarios (CRUD, paginación, eliminación lógica)")
 public class UserController {
 
     private final UserService userService;
+    private final DataServicePassThroughProperties passThrough;
 
     @Operation(
             summary = "Registrar nuevo usuario",
@@ -97,19 +104,51 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "Lista de usuarios obtenida exitosamente",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = PaginatedUserResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Sin cambios respecto al ETag enviado en If-None-Match"),
             @ApiResponse(responseCode = "400", description = "Parámetros de paginación inválidos")
     })
     @GetMapping
-    public ResponseEntity<PaginatedUserResponse> getUsers(
+    public ResponseEntity<?> getUsers(
             @Parameter(description = "Número de página (mínimo 1)", example = "1")
             @RequestParam(defaultValue = "1") @Positive int page,
             @Parameter(description = "Tamaño de la página (mínimo 1, máximo 100)", example = "10")
             @RequestParam(defaultValue = "10") @Positive int size) {
 
         log.info("📋 Consultando usuarios - Página: {}, Tamaño: {}", page, size);
+        if (passThrough.enabled()) {
+            RawJson json = userService.getUsersJson(page, size);
+            log.info("✅ Página de usuarios reenviada ({} bytes)", json.length());
+            return ResourceETags.conditionalOk(json, ResourceETags.ofUserPage(json));
+        }
         PaginatedUserResponse response = userService.getUsers(page, size);
         log.info("✅ Total de usuarios recuperados: {}", response.totalItems());
-        return ResponseEntity.ok(response);
+        return ResourceETags.conditionalOk(response, ResourceETags.of(response));
+    }
+
+    @Operation(
+            summary = "Obtener usuarios por cursor",
+            description = "Consulta los usuarios ordenados por ID a partir de un cursor opaco. Enviar 'after' vacío "
+                    + "para la primera página y luego el 'nextCursor' de cada respuesta. La latencia no crece con la "
+                    + "profundidad de la página y no se calculan totales."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de usuarios obtenida exitosamente",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CursorUserResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Sin cambios respecto al ETag enviado en If-None-Match"),
+            @ApiResponse(responseCode = "400", description = "Cursor o tamaño de página inválidos")
+    })
+    @GetMapping(params = "after")
+    public ResponseEntity<CursorUserResponse> getUsersByCursor(
+            @Parameter(description = "Cursor devuelto en 'nextCursor' (vacío para la primera página)", example = "dToxMjA")
+            @RequestParam String after,
+            @Parameter(description = "Tamaño de la página (mínimo 1, máximo 100)", example = "10")
+            @RequestParam(defaultValue = "10") @Positive @Max(100) int size) {
+
+        log.info("📋 Consultando usuarios por cursor - Tamaño: {}", size);
+        CursorUserResponse response = userService.getUsers(after, size);
+        log.info("✅ Usuarios recuperados: {}", response.users().size());
+        return ResourceETags.conditionalOk(response, ResourceETags.of(response));
     }
 
     @Operation(
@@ -120,17 +159,23 @@ public class UserController {
             @ApiResponse(responseCode = "200", description = "Usuario encontrado",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = UserResponse.class))),
+            @ApiResponse(responseCode = "304", description = "Sin cambios respecto al ETag enviado en If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Usuario no encontrado")
     })
     @GetMapping("/{userId}")
-    public ResponseEntity<UserResponse> getUser(
+    public ResponseEntity<?> getUser(
             @Parameter(description = "Identificador único del usuario", example = "101")
             @PathVariable int userId) {
 
         log.info("🔎 Consultando usuario con ID: {}", userId);
+        if (passThrough.enabled()) {
+            RawJson json = userService.getUserJson(userId);
+            log.info("✅ Usuario encontrado: {}", userId);
+            return ResourceETags.conditionalOk(json, ResourceETags.ofUser(json));
+        }
         UserResponse response = userService.getUser(userId);
         log.info("✅ Usuario encontrado: {}", response.email());
-        return ResponseEntity.ok(response);
+        return ResourceETags.conditionalOk(response, ResourceETags.of(response));
     }
 
     @Operation(
@@ -0,0 +1,10 @@
+package com.uniquindio.userservice.dto;
+
+/**
+ * Tokens emitidos por un login o una renovación.
+ *
+ * @param accessToken  JWT de acceso, se devuelve en el cuerpo de la respuesta
+ * @param refreshToken refresh token opaco, se devuelve en el encabezado {@code X-Refresh-Token}
+ */
+public record AuthTokens(String accessToken, String refreshToken) {
+}
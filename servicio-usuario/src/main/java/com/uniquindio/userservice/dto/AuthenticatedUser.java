@@ -0,0 +1,48 @@
+package com.uniquindio.userservice.dto;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.MalformedJwtException;
+
+import java.security.Principal;
+import java.time.Instant;
+
+/**
+ * Usuario autenticado de la petición actual: los claims del JWT que {@code JwtAuthFilter} ya
+ * verificó. Se guarda como principal del {@code Authentication}, de modo que las comprobaciones
+ * posteriores (p. ej. {@code IsOwnerAspect}) no vuelven a leer ni verificar el token.
+ *
+ * @param userId    claim {@code userId}
+ * @param subject   claim {@code sub} (email del usuario)
+ * @param tokenId   claim {@code jti}
+ * @param expiresAt claim {@code exp}
+ */
+public record AuthenticatedUser(
+        int userId,
+        String subject,
+        String tokenId,
+        Instant expiresAt
+) implements Principal {
+
+    /**
+     * Construye el principal a partir de claims ya verificados.
+     */
+    public static AuthenticatedUser from(Claims claims) {
+        Integer userId = claims.get("userId", Integer.class);
+        if (userId == null) {
+            throw new MalformedJwtException("El token no contiene el claim userId");
+        }
+        return new AuthenticatedUser(
+                userId,
+                claims.getSubject(),
+                claims.getId(),
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null);
+    }
+
+    /**
+     * Nombre del principal: el {@code sub} del token, igual que antes de tener un principal tipado.
+     */
+    @Override
+    public String getName() {
+        return subject;
+    }
+}
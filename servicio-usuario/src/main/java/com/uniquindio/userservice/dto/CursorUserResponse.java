@@ -0,0 +1,36 @@
+package com.uniquindio.userservice.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO que representa una página de usuarios obtenida por cursor.
+ *
+ * A diferencia de {@link PaginatedUserResponse}, no incluye totales: la página siguiente se
+ * pide enviando {@code nextCursor} en el parámetro {@code after}.
+ */
+@Schema(description = "Página de usuarios obtenida por cursor")
+public record CursorUserResponse(
+
+        @Schema(
+                description = "Cantidad máxima de elementos por página",
+                example = "10"
+        )
+        int pageSize,
+
+        @ArraySchema(
+                schema = @Schema(implementation = UserResponse.class),
+                arraySchema = @Schema(description = "Lista de usuarios de la página, ordenados por ID")
+        )
+        List<UserResponse> users,
+
+        @Schema(
+                description = "Cursor opaco de la página siguiente, o null si no hay más usuarios",
+                example = "dToxMjA",
+                nullable = true
+        )
+        String nextCursor
+) {
+}
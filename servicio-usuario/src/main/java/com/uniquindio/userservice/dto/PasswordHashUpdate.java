@@ -0,0 +1,10 @@
+package com.uniquindio.userservice.dto;
+
+/**
+ * Cuerpo de {@code PATCH /{id}/password_hash} en el servicio de datos.
+ *
+ * @param currentPassword hash guardado actualmente; la actualización solo se aplica si coincide
+ * @param password        hash nuevo de la misma contraseña
+ */
+public record PasswordHashUpdate(String currentPassword, String password) {
+}
@@ -0,0 +1,36 @@
+package com.uniquindio.userservice.dto;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fragmento de JSON ya serializado que se envía al cliente tal cual, sin pasar por Jackson.
+ *
+ * <p>Apunta a una región de un arreglo de bytes (normalmente el cuerpo completo recibido del
+ * servicio de datos) para no copiar el fragmento. El arreglo no debe modificarse después de
+ * crear la instancia.</p>
+ *
+ * @param bytes  arreglo que contiene el fragmento
+ * @param offset posición del primer byte del fragmento
+ * @param length longitud del fragmento en bytes
+ * @see com.uniquindio.userservice.config.RawJsonHttpMessageConverter
+ */
+public record RawJson(byte[] bytes, int offset, int length) {
+
+    public RawJson {
+        if (offset < 0 || length < 0 || offset + length > bytes.length) {
+            throw new IndexOutOfBoundsException("Fragmento fuera del arreglo: offset=" + offset + ", length=" + length);
+        }
+    }
+
+    /**
+     * @return el fragmento completo contenido en {@code bytes}
+     */
+    public static RawJson of(byte[] bytes) {
+        return new RawJson(bytes, 0, bytes.length);
+    }
+
+    @Override
+    public String toString() {
+        return new String(bytes, offset, length, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,19 @@
+package com.uniquindio.userservice.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO para renovar el token de acceso con un refresh token.
+ */
+@Schema(description = "Solicitud de un nuevo token de acceso a partir de un refresh token")
+public record RefreshTokenRequest(
+
+        @Schema(
+                description = "Refresh token recibido en el encabezado X-Refresh-Token del login o de la última renovación",
+                example = "q3Jm0bS2yKXn7c1VxH0fQ9a8WkZ4tLr6pE5uYcN2d1M"
+        )
+        @NotBlank(message = "El refresh token es obligatorio")
+        String refreshToken
+) {
+}
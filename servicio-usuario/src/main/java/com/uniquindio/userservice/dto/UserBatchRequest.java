@@ -0,0 +1,28 @@
+package com.uniquindio.userservice.dto;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * DTO para consultar varios usuarios por id en una sola petición.
+ *
+ * Se usa tanto en {@code POST /api/v1/users/batch} como en la llamada multi-id al servicio de datos.
+ */
+@Schema(description = "Lista de identificadores de usuario a consultar (máximo 100)")
+public record UserBatchRequest(
+
+        @ArraySchema(
+                schema = @Schema(description = "Identificador único del usuario", example = "101"),
+                arraySchema = @Schema(description = "Identificadores de los usuarios a consultar")
+        )
+        @NotEmpty(message = "Debe enviar al menos un id")
+        @Size(max = 100, message = "Se pueden consultar como máximo 100 usuarios por petición")
+        List<@NotNull @Positive(message = "Los ids deben ser positivos") Integer> ids
+) {
+}
@@ -0,0 +1,18 @@
+package com.uniquindio.userservice.dto;
+
+import java.util.List;
+
+/**
+ * Página de usuarios por cursor tal como la devuelve el servicio de datos
+ * ({@code GET /api/users?after=&size=}).
+ *
+ * @param pageSize tamaño de página solicitado
+ * @param users usuarios de la página, ordenados por id ascendente
+ * @param nextCursor id del último usuario de la página, o {@code null} si no hay más
+ */
+public record UserCursorPage(
+        int pageSize,
+        List<UserResponse> users,
+        Integer nextCursor
+) {
+}
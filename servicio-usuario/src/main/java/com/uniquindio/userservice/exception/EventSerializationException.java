@@ -0,0 +1,7 @@
+package com.uniquindio.userservice.exception;
+
+public class EventSerializationException extends RuntimeException {
+    public EventSerializationException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,21 @@
+package com.uniquindio.userservice.exception;
+
+import java.time.Duration;
+
+/**
+ * No se puede publicar ahora un evento que el cliente necesita recibir (por ejemplo, el enlace
+ * de recuperación de contraseña): hay demasiados envíos a Kafka pendientes.
+ */
+public class NotificationUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public NotificationUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
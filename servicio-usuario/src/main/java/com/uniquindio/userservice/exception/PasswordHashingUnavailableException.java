@@ -0,0 +1,20 @@
+package com.uniquindio.userservice.exception;
+
+import java.time.Duration;
+
+/**
+ * El pool de hashing de contraseñas está saturado y no admite más trabajo por ahora.
+ */
+public class PasswordHashingUnavailableException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public PasswordHashingUnavailableException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
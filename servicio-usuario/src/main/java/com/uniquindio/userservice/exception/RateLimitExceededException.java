@@ -0,0 +1,20 @@
+package com.uniquindio.userservice.exception;
+
+import java.time.Duration;
+
+/**
+ * El cliente superó el número de intentos permitido para una acción.
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public RateLimitExceededException(String message, Duration retryAfter) {
+        super(message);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,7 @@
+package com.uniquindio.userservice.exception.authException;
+
+public class InvalidRefreshTokenException extends RuntimeException {
+    public InvalidRefreshTokenException(String message) {
+        super(message);
+    }
+}
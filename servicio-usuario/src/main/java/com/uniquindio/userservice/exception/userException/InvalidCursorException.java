@@ -0,0 +1,7 @@
+package com.uniquindio.userservice.exception.userException;
+
+public class InvalidCursorException extends RuntimeException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
@@ -1,6 +1,6 @@
 package com.uniquindio.userservice.exceptionHandler;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uniquindio.userservice.config.JsonWriters;
 import com.uniquindio.userservice.dto.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -12,7 +12,8 @@ import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.io.PrintWriter;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 
 @Component
@@ -21,7 +22,7 @@ import java.time.LocalDateTime;
 public class CustomAuthEntryPoint implements AuthenticationEntryPoint {
 
 
-    private final ObjectMapper mapper;
+    private final JsonWriters jsonWriters;
 
     @Override
     public void commence(HttpServletRequest request, HttpServletResponse response,
@@ -40,10 +41,11 @@ public class CustomAuthEntryPoint implements AuthenticationEntryPoint {
 
         ErrorResponse error = new ErrorResponse(status, message, LocalDateTime.now());
 
-        PrintWriter writer = response.getWriter();
+        // Se escriben bytes UTF-8 directamente en el stream, sin pasar por un Writer de caracteres
+        OutputStream out = response.getOutputStream();
         try {
-            mapper.writeValue(writer, error);
-            writer.flush();
+            out.write(jsonWriters.errorResponse().writeValueAsBytes(error));
+            out.flush();
         } catch (Exception ex) {
             log.warn("Error serializando ErrorResponse en AuthenticationEntryPoint: {}", ex.getMessage());
             try {
@@ -51,8 +53,8 @@ public class CustomAuthEntryPoint implements AuthenticationEntryPoint {
                         status,
                         escapeJson(message),
                         LocalDateTime.now().toString());
-                writer.write(fallback);
-                writer.flush();
+                out.write(fallback.getBytes(StandardCharsets.UTF_8));
+                out.flush();
             } catch (Exception writeEx) {
                 log.error("No se pudo escribir la respuesta de error en el AuthenticationEntryPoint: {}", writeEx.getMessage());
             }
@@ -3,10 +3,15 @@ package com.uniquindio.userservice.exceptionHandler;
 import com.uniquindio.userservice.dto.ErrorResponse;
 import com.uniquindio.userservice.dto.ValidationErrorResponse;
 import com.uniquindio.userservice.exception.InvalidOTPException;
+import com.uniquindio.userservice.exception.NotificationUnavailableException;
 import com.uniquindio.userservice.exception.OtpCreationException;
+import com.uniquindio.userservice.exception.PasswordHashingUnavailableException;
+import com.uniquindio.userservice.exception.RateLimitExceededException;
+import com.uniquindio.userservice.exception.authException.InvalidRefreshTokenException;
 import com.uniquindio.userservice.exception.authException.UnauthorizedOwnerAccessException;
 import com.uniquindio.userservice.exception.userException.*;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -69,6 +74,17 @@ public class UserExceptionHandler {
     }
 
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidCursor(InvalidCursorException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+
     @ExceptionHandler(UserNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleUserNotFound(UserNotFoundException ex) {
         ErrorResponse error = new ErrorResponse(
@@ -113,6 +129,17 @@ public class UserExceptionHandler {
     }
 
 
+    @ExceptionHandler(InvalidRefreshTokenException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRefreshToken(InvalidRefreshTokenException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.UNAUTHORIZED.value(), // 401 Unauthorized
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(error);
+    }
+
+
     @ExceptionHandler(OtpCreationException.class)
     public ResponseEntity<ErrorResponse> handleOtpCreationException(OtpCreationException ex) {
         ErrorResponse error = new ErrorResponse(
@@ -144,4 +171,57 @@ public class UserExceptionHandler {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
     }
 
+
+    /**
+     * El pool de BCrypt está saturado: 503 con {@code Retry-After} en segundos para que el
+     * cliente reintente en lugar de esperar en una cola sin límite.
+     */
+    @ExceptionHandler(PasswordHashingUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handlePasswordHashingUnavailable(PasswordHashingUnavailableException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(error);
+    }
+
+    /**
+     * No se puede publicar el evento con el enlace de recuperación: 503 con {@code Retry-After}
+     * en segundos para que el cliente vuelva a solicitar el OTP.
+     */
+    @ExceptionHandler(NotificationUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleNotificationUnavailable(NotificationUnavailableException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(error);
+    }
+
+
+    /**
+     * Demasiados intentos de login u OTP: 429 con {@code Retry-After} en segundos. Los
+     * encabezados {@code RateLimit-*} ya los escribió {@code RateLimitAspect}.
+     */
+    @ExceptionHandler(RateLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleRateLimitExceeded(RateLimitExceededException ex) {
+        ErrorResponse error = new ErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                ex.getMessage(),
+                LocalDateTime.now()
+        );
+        long retryAfterSeconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds))
+                .body(error);
+    }
+
 }
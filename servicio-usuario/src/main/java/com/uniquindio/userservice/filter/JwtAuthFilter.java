@@ -1,6 +1,7 @@
 package com.uniquindio.userservice.filter;
 
 
+import com.uniquindio.userservice.dto.AuthenticatedUser;
 import com.uniquindio.userservice.exception.authException.*;
 import com.uniquindio.userservice.util.JwtUtils;
 import io.jsonwebtoken.Claims;
@@ -19,12 +20,10 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.List;
 
 @Component
 @Slf4j
@@ -32,18 +31,7 @@ import java.util.List;
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtUtils jwtUtils;
-    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
-    private static final List<String> PUBLIC_PATTERNS = List.of(
-            "/api/v1/auth/**",
-            "/api/v1/users/*/password",
-            "/api/v1/users/*/account_status",
-            "/api/v1/users",            // controlaremos el método abajo
-            "/v3/api-docs/**",
-            "/swagger-ui/**",
-            "/swagger-ui.html",
-            "/actuator/health",
-            "/openapi.json"
-    );
+    private final PublicRoutes publicRoutes;
 
 
     @Override
@@ -102,7 +90,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             }
 
             // ✅ Si llegamos aquí: token válido → setear Authentication en el contexto
-            setAuthentication(claims, token);
+            setAuthentication(claims);
 
         } catch (ExpiredJwtException e) {
             throw new ExpiredTokenException("Token expirado");
@@ -121,44 +109,32 @@ public class JwtAuthFilter extends OncePerRequestFilter {
     }
 
 
-    /** Construye el Authentication y lo coloca en el SecurityContext. */
-    private void setAuthentication(Claims claims, String token) {
-        String username = claims.getSubject();
+    /**
+     * Construye el Authentication y lo coloca en el SecurityContext. El principal es un
+     * {@link AuthenticatedUser} con los claims ya verificados; el token no se conserva.
+     */
+    private void setAuthentication(Claims claims) {
+        AuthenticatedUser principal = AuthenticatedUser.from(claims);
 
         // Como no hay roles, pasamos una lista vacía — pero usamos el constructor con authorities
         Collection<SimpleGrantedAuthority> authorities = Collections.emptyList();
 
         UsernamePasswordAuthenticationToken auth =
-                new UsernamePasswordAuthenticationToken(username, token, authorities);
+                new UsernamePasswordAuthenticationToken(principal, null, authorities);
 
         SecurityContextHolder.getContext().setAuthentication(auth);
 
-        log.info("Usuario autenticado en contexto: {} — Authentication: {}",
-                username, SecurityContextHolder.getContext().getAuthentication());
+        log.info("Usuario autenticado en contexto: {} (userId {})", principal.subject(), principal.userId());
     }
 
-    //Aca se deben agregar las rutas de los endpoints publicos
+
+    /**
+     * Las rutas públicas se declaran en {@link PublicRoutes}; las peticiones OPTIONS (CORS)
+     * tampoco se validan.
+     */
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String path = request.getRequestURI();
-        String context = request.getContextPath();
-        if (context != null && !context.isEmpty() && path.startsWith(context)) {
-            path = path.substring(context.length());
-        }
-
-        String method = request.getMethod();
-        if ("OPTIONS".equalsIgnoreCase(method)) return true; // CORS
-
-        for (String pattern : PUBLIC_PATTERNS) {
-            if (PATH_MATCHER.match(pattern, path)) {
-                // excepción: /api/v1/users solo si es POST
-                if (pattern.equals("/api/v1/users")) {
-                    return "POST".equalsIgnoreCase(method);
-                }
-                return true;
-            }
-        }
-        return false;
+        return "OPTIONS".equalsIgnoreCase(request.getMethod()) || publicRoutes.matches(request);
     }
 
 
@@ -0,0 +1,141 @@
+package com.uniquindio.userservice.filter;
+
+import com.uniquindio.userservice.controller.JwksController;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Tabla única de rutas públicas (sin JWT), usada por {@link JwtAuthFilter} y por
+ * {@code SecurityConfig}.
+ *
+ * <p>Al iniciar, la tabla se compila en un árbol por segmentos de la ruta; cada nodo guarda los
+ * métodos HTTP permitidos. Decidir si una petición es pública recorre como máximo un nodo por
+ * segmento, sin importar cuántas rutas haya.</p>
+ *
+ * <p>Patrones: segmentos literales, {@code *} para exactamente un segmento y {@code **} al final
+ * para el resto de la ruta (incluida la ruta vacía).</p>
+ */
+@Component
+public class PublicRoutes {
+
+    /**
+     * Ruta pública: métodos permitidos y patrón.
+     */
+    public record Route(Set<RequestMethod> methods, String pattern) {
+
+        static Route any(String pattern) {
+            return new Route(EnumSet.allOf(RequestMethod.class), pattern);
+        }
+
+        static Route of(RequestMethod method, String pattern) {
+            return new Route(EnumSet.of(method), pattern);
+        }
+    }
+
+    private static final List<Route> ROUTES = List.of(
+            Route.any("/api/v1/auth/**"),
+            Route.any("/api/v1/users/*/password"),
+            Route.any("/api/v1/users/*/account_status"),
+            Route.of(RequestMethod.POST, "/api/v1/users"),
+            Route.any("/v3/api-docs/**"),
+            Route.any("/v3/api-docs.yaml"),
+            Route.any("/swagger-ui/**"),
+            Route.any("/swagger-ui.html"),
+            Route.any("/swagger-resources/**"),
+            Route.any("/webjars/**"),
+            Route.any("/openapi.json"),
+            Route.of(RequestMethod.GET, "/actuator/health/**"),
+            Route.of(RequestMethod.GET, JwksController.PATH)
+    );
+
+    private static final class Node {
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node anySegment;
+        /** Métodos de las rutas que terminan en este nodo. */
+        private final EnumSet<RequestMethod> methods = EnumSet.noneOf(RequestMethod.class);
+        /** Métodos de las rutas que terminan en {@code **} en este nodo. */
+        private final EnumSet<RequestMethod> remainderMethods = EnumSet.noneOf(RequestMethod.class);
+    }
+
+    private final Node root = new Node();
+
+    public PublicRoutes() {
+        ROUTES.forEach(this::add);
+    }
+
+    /**
+     * @return {@code true} si la petición no requiere autenticación
+     */
+    public boolean matches(HttpServletRequest request) {
+        RequestMethod method = RequestMethod.resolve(request.getMethod());
+        if (method == null) {
+            return false;
+        }
+        String path = request.getRequestURI();
+        String context = request.getContextPath();
+        if (context != null && !context.isEmpty() && path.startsWith(context)) {
+            path = path.substring(context.length());
+        }
+        return matches(method, path);
+    }
+
+    /**
+     * @param path ruta dentro de la aplicación, sin el context path
+     * @return {@code true} si la ruta es pública para el método
+     */
+    public boolean matches(RequestMethod method, String path) {
+        return matches(root, segments(path), 0, method);
+    }
+
+    private static boolean matches(Node node, String[] segments, int index, RequestMethod method) {
+        if (node.remainderMethods.contains(method)) {
+            return true;
+        }
+        if (index == segments.length) {
+            return node.methods.contains(method);
+        }
+        Node literal = node.literals.get(segments[index]);
+        if (literal != null && matches(literal, segments, index + 1, method)) {
+            return true;
+        }
+        return node.anySegment != null && matches(node.anySegment, segments, index + 1, method);
+    }
+
+    private void add(Route route) {
+        String[] segments = segments(route.pattern());
+        Node node = root;
+        for (int i = 0; i < segments.length; i++) {
+            String segment = segments[i];
+            if (segment.equals("**")) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' solo se admite al final: " + route.pattern());
+                }
+                node.remainderMethods.addAll(route.methods());
+                return;
+            }
+            if (segment.equals("*")) {
+                if (node.anySegment == null) {
+                    node.anySegment = new Node();
+                }
+                node = node.anySegment;
+            } else if (segment.contains("*")) {
+                throw new IllegalArgumentException("Comodín parcial no admitido en " + route.pattern());
+            } else {
+                node = node.literals.computeIfAbsent(segment, s -> new Node());
+            }
+        }
+        node.methods.addAll(route.methods());
+    }
+
+    private static String[] segments(String path) {
+        return StringUtils.tokenizeToStringArray(path, "/", false, true);
+    }
+}
@@ -5,13 +5,18 @@ import com.uniquindio.userservice.client.UserClient;
 import com.uniquindio.userservice.client.UserNotificationProducer;
 import com.uniquindio.userservice.dto.*;
 import com.uniquindio.userservice.exception.InvalidOTPException;
+import com.uniquindio.userservice.exception.NotificationUnavailableException;
+import com.uniquindio.userservice.exception.authException.InvalidRefreshTokenException;
 import com.uniquindio.userservice.exception.userException.ExternalServiceException;
 import com.uniquindio.userservice.exception.userException.IncorrectPasswordException;
 import com.uniquindio.userservice.exception.userException.UserNotFoundException;
 import com.uniquindio.userservice.exception.OtpCreationException; // Excepción específica que falta
 import com.uniquindio.userservice.service.interfaces.AuthService;
 import com.uniquindio.userservice.util.JwtUtils;
+import com.uniquindio.userservice.util.PasswordHashUpgrader;
 import com.uniquindio.userservice.util.PasswordUtils;
+import com.uniquindio.userservice.util.RefreshTokenStore;
+import com.uniquindio.userservice.util.RefreshTokenUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -29,10 +34,13 @@ public class AuthServiceImpl implements AuthService {
     private final AuthClient authClient;
     private final JwtUtils jwtUtils;
     private final UserNotificationProducer userNotificationProducer;
+    private final PasswordUtils passwordUtils;
+    private final RefreshTokenUtils refreshTokenUtils;
+    private final PasswordHashUpgrader passwordHashUpgrader;
 
 
     @Override
-    public String login(LoginRequest loginRequest) {
+    public AuthTokens login(LoginRequest loginRequest) {
         log.info("Intentando iniciar sesión para el usuario con email: {}", loginRequest.email());
 
         try {
@@ -40,18 +48,22 @@ public class AuthServiceImpl implements AuthService {
             UserAuthResponse user = userClient.getUserByEmail(loginRequest.email());
 
             // Validar contraseña en este microservicio
-            if (!PasswordUtils.matches(loginRequest.password(), user.password())) {
+            if (!passwordUtils.matches(loginRequest.password(), user.password())) {
                 log.error("Contraseña incorrecta para el usuario {}", loginRequest.email());
                 throw new IncorrectPasswordException("Contraseña incorrecta para el usuario " + loginRequest.email());
             }
 
-            // Generar token JWT
+            // Con la contraseña verificada, migrar su hash si usa otro algoritmo o un costo menor
+            passwordHashUpgrader.upgradeIfNeeded(user, loginRequest.password());
+
+            // Generar token JWT y el primer refresh token de la sesión
             String token = jwtUtils.generateToken(user);
+            String refreshToken = refreshTokenUtils.issue(user.id(), user.email());
             userNotificationProducer.sendUserLogin(user);
 
             log.info("Token JWT generado exitosamente para el usuario {}", loginRequest.email());
 
-            return token;
+            return new AuthTokens(token, refreshToken);
 
         } catch (WebClientResponseException e) {
             log.error("Error al obtener usuario. Código: {}, Detalle: {}", e.getStatusCode(), e.getResponseBodyAsString());
@@ -66,6 +78,47 @@ public class AuthServiceImpl implements AuthService {
         }
     }
 
+    /**
+     * Emite un nuevo token de acceso a partir de un refresh token.
+     *
+     * <p>No verifica la contraseña: consume el refresh token en el almacén, comprueba en el
+     * servicio de datos (sin la caché local) que la cuenta siga existiendo y no esté eliminada, y
+     * firma el JWT con el email actual del usuario. El refresh token presentado queda inutilizado
+     * y se devuelve uno nuevo de la misma familia, con el mismo vencimiento.</p>
+     *
+     * @param refreshTokenRequest refresh token recibido en el login o en la última renovación
+     * @return el nuevo token de acceso y el nuevo refresh token
+     * @throws InvalidRefreshTokenException si el token no existe, venció, fue revocado o ya se
+     *         había usado, o si la cuenta ya no existe o fue eliminada
+     * @throws ExternalServiceException si ocurre un error de comunicación con el servicio externo
+     */
+    @Override
+    public AuthTokens refresh(RefreshTokenRequest refreshTokenRequest) {
+        RefreshTokenStore.RefreshToken current = refreshTokenUtils.consume(refreshTokenRequest.refreshToken());
+        UserResponse user;
+        try {
+            user = userClient.getFreshUserById(current.userId());
+        } catch (WebClientResponseException e) {
+            if (e.getStatusCode().value() != 404) {
+                log.error("Error al obtener usuario. Código: {}, Detalle: {}", e.getStatusCode(), e.getResponseBodyAsString());
+                throw new ExternalServiceException(
+                        "Error al comunicarse con el servicio de usuarios: " + e.getResponseBodyAsString()
+                );
+            }
+            user = null;
+        }
+        if (user == null || user.account_status() == UserAccountStatusEnum.DELETED) {
+            log.warn("Renovación rechazada: la cuenta del usuario {} ya no está activa", current.userId());
+            refreshTokenUtils.revokeAll(current.userId());
+            throw new InvalidRefreshTokenException("La cuenta asociada al refresh token ya no está activa");
+        }
+
+        String token = jwtUtils.generateToken(user.id(), user.email());
+        String refreshToken = refreshTokenUtils.rotate(current, user.email());
+        log.info("Token JWT renovado para el usuario {}", current.userId());
+        return new AuthTokens(token, refreshToken);
+    }
+
     /**
      * Solicita un otp de recuperación de contraseña para el usuario.
      *
@@ -84,6 +137,8 @@ public class AuthServiceImpl implements AuthService {
      *   <li><strong>Otros códigos:</strong> Se lanza {@link ExternalServiceException} con detalles del error</li>
      * </ul>
      *
+     * <p>Si no se puede publicar el evento con el enlace de recuperación se lanza
+     * {@link NotificationUnavailableException} (503), antes de crear el OTP siempre que sea posible.</p>
      *
      * @param otpRequest Dto que contiene el email de la cuenta que quiere solicitar un otp
      * @return {@link OtpResponse} con la información del otp creado exitosamente
@@ -100,6 +155,8 @@ public class AuthServiceImpl implements AuthService {
             UserAuthResponse user = userClient.getUserByEmail(email);
 
             log.info("Intentando crear un OTP para el usuario con id: {}", user.id());
+            // Un OTP activo impide crear otro: si su enlace no se puede enviar, mejor no crearlo
+            userNotificationProducer.requireCapacity();
 
             OtpResponse otp = authClient.requestOtp(otpRequest);
 
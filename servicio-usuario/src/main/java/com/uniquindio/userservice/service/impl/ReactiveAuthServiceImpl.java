@@ -0,0 +1,156 @@
+package com.uniquindio.userservice.service.impl;
+
+import com.uniquindio.userservice.client.AuthClient;
+import com.uniquindio.userservice.client.UserClient;
+import com.uniquindio.userservice.client.UserNotificationProducer;
+import com.uniquindio.userservice.dto.*;
+import com.uniquindio.userservice.exception.OtpCreationException;
+import com.uniquindio.userservice.exception.authException.InvalidRefreshTokenException;
+import com.uniquindio.userservice.exception.userException.ExternalServiceException;
+import com.uniquindio.userservice.exception.userException.IncorrectPasswordException;
+import com.uniquindio.userservice.exception.userException.UserNotFoundException;
+import com.uniquindio.userservice.service.interfaces.ReactiveAuthService;
+import com.uniquindio.userservice.util.JwtUtils;
+import com.uniquindio.userservice.util.PasswordHashUpgrader;
+import com.uniquindio.userservice.util.PasswordUtils;
+import com.uniquindio.userservice.util.RefreshTokenUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Objects;
+
+/**
+ * Implementación no bloqueante de la autenticación.
+ *
+ * <p>Mantiene las reglas de {@link AuthServiceImpl}; la verificación BCrypt, la firma del JWT
+ * (también en la renovación) y el envío del evento a Kafka se ejecutan en {@link Schedulers#boundedElastic()}.</p>
+ *
+ * @see AuthServiceImpl
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveAuthServiceImpl implements ReactiveAuthService {
+
+    private final UserClient userClient;
+    private final AuthClient authClient;
+    private final JwtUtils jwtUtils;
+    private final UserNotificationProducer userNotificationProducer;
+    private final PasswordUtils passwordUtils;
+    private final RefreshTokenUtils refreshTokenUtils;
+    private final PasswordHashUpgrader passwordHashUpgrader;
+
+    @Override
+    public Mono<AuthTokens> login(LoginRequest loginRequest) {
+        log.info("Intentando iniciar sesión para el usuario con email: {}", loginRequest.email());
+
+        return userClient.getUserByEmailReactive(loginRequest.email())
+                .publishOn(Schedulers.boundedElastic())
+                .map(user -> {
+                    // Validar contraseña en este microservicio
+                    if (!passwordUtils.matches(loginRequest.password(), user.password())) {
+                        log.error("Contraseña incorrecta para el usuario {}", loginRequest.email());
+                        throw new IncorrectPasswordException("Contraseña incorrecta para el usuario " + loginRequest.email());
+                    }
+
+                    // Con la contraseña verificada, migrar su hash si usa otro algoritmo o un costo menor
+                    passwordHashUpgrader.upgradeIfNeeded(user, loginRequest.password());
+
+                    String token = jwtUtils.generateToken(user);
+                    String refreshToken = refreshTokenUtils.issue(user.id(), user.email());
+                    userNotificationProducer.sendUserLogin(user);
+                    log.info("Token JWT generado exitosamente para el usuario {}", loginRequest.email());
+                    return new AuthTokens(token, refreshToken);
+                })
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Error al obtener usuario. Código: {}, Detalle: {}", e.getStatusCode(), e.getResponseBodyAsString());
+                    if (e.getStatusCode().value() == 404) {
+                        return new UserNotFoundException("Usuario con email " + loginRequest.email() + " no encontrado");
+                    }
+                    return new ExternalServiceException(
+                            "Error al comunicarse con el servicio de usuarios: " + e.getResponseBodyAsString()
+                    );
+                });
+    }
+
+    /**
+     * Emite un nuevo token de acceso a partir de un refresh token.
+     *
+     * @param refreshTokenRequest refresh token recibido en el login o en la última renovación
+     * @return {@link Mono} con el nuevo token de acceso y el nuevo refresh token
+     * @see AuthServiceImpl#refresh(RefreshTokenRequest)
+     */
+    @Override
+    public Mono<AuthTokens> refresh(RefreshTokenRequest refreshTokenRequest) {
+        return Mono.fromCallable(() -> refreshTokenUtils.consume(refreshTokenRequest.refreshToken()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(current -> userClient.getFreshUserByIdReactive(current.userId())
+                        .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
+                        .onErrorMap(WebClientResponseException.class, e -> {
+                            log.error("Error al obtener usuario. Código: {}, Detalle: {}", e.getStatusCode(), e.getResponseBodyAsString());
+                            return new ExternalServiceException(
+                                    "Error al comunicarse con el servicio de usuarios: " + e.getResponseBodyAsString()
+                            );
+                        })
+                        .filter(user -> user.account_status() != UserAccountStatusEnum.DELETED)
+                        .switchIfEmpty(Mono.defer(() -> {
+                            log.warn("Renovación rechazada: la cuenta del usuario {} ya no está activa", current.userId());
+                            refreshTokenUtils.revokeAll(current.userId());
+                            return Mono.error(new InvalidRefreshTokenException("La cuenta asociada al refresh token ya no está activa"));
+                        }))
+                        .publishOn(Schedulers.boundedElastic())
+                        .map(user -> {
+                            String token = jwtUtils.generateToken(user.id(), user.email());
+                            String refreshToken = refreshTokenUtils.rotate(current, user.email());
+                            log.info("Token JWT renovado para el usuario {}", current.userId());
+                            return new AuthTokens(token, refreshToken);
+                        }));
+    }
+
+    /**
+     * Solicita un otp de recuperación de contraseña para el usuario.
+     *
+     * @param otpRequest Dto que contiene el email de la cuenta que quiere solicitar un otp
+     * @return {@link Mono} con la información del otp creado
+     * @see AuthServiceImpl#requestOtp(OtpRequest)
+     */
+    @Override
+    public Mono<OtpResponse> requestOtp(OtpRequest otpRequest) {
+        String email = otpRequest.email();
+        log.info("Intentando encontrar el usuario con email: {}", email);
+
+        return userClient.getUserByEmailReactive(email)
+                .flatMap(user -> {
+                    log.info("Intentando crear un OTP para el usuario con id: {}", user.id());
+                    userNotificationProducer.requireCapacity();
+                    return authClient.requestOtpReactive(otpRequest)
+                            .flatMap(otp -> {
+                                if (!Objects.equals(otp.otp_status(), "CREATED")) {
+                                    log.error("Fallo al crear el OTP para el usuario {}: Estado: {}", user.id(), otp.otp_status());
+                                    return Mono.error(new OtpCreationException("Fallo al crear el OTP."));
+                                }
+                                log.info("Creación de OTP exitosa: {}", otp.otp());
+                                log.info("El OTP expirará en 5 minutos");
+                                return Mono.fromRunnable(() -> userNotificationProducer.sendRequestOtp(user, otp))
+                                        .subscribeOn(Schedulers.boundedElastic())
+                                        .thenReturn(otp);
+                            });
+                })
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Error al generar el otp. Código: {}, Detalle: {}", e.getStatusCode(), e.getResponseBodyAsString());
+                    if (e.getStatusCode().value() == 404) {
+                        return new UserNotFoundException("Usuario con email " + email + " no encontrado.");
+                    }
+                    if (e.getStatusCode().value() == 409) {
+                        return new OtpCreationException("Error al generar el OTP.");
+                    }
+                    return new ExternalServiceException(
+                            "Error al comunicarse con el servicio de usuarios: " + e.getResponseBodyAsString()
+                    );
+                });
+    }
+}
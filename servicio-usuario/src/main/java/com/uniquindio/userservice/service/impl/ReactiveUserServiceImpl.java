@@ -0,0 +1,433 @@
+package com.uniquindio.userservice.service.impl;
+
+import com.uniquindio.userservice.annotation.IsOwner;
+import com.uniquindio.userservice.client.UserClient;
+import com.uniquindio.userservice.client.UserNotificationProducer;
+import com.uniquindio.userservice.dto.*;
+import com.uniquindio.userservice.exception.InvalidOTPException;
+import com.uniquindio.userservice.exception.userException.*;
+import com.uniquindio.userservice.service.interfaces.ReactiveUserService;
+import com.uniquindio.userservice.util.KnownEmailIndex;
+import com.uniquindio.userservice.util.PasswordUtils;
+import com.uniquindio.userservice.util.RefreshTokenUtils;
+import com.uniquindio.userservice.util.UserCursorCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+/**
+ * Implementación no bloqueante del servicio de gestión de usuarios.
+ *
+ * <p>Replica las reglas de negocio y la traducción de errores de {@link UserServiceImpl},
+ * pero compone las llamadas de {@link UserClient} como {@link Mono} en lugar de bloquear
+ * el hilo de la petición con {@code .block()}.</p>
+ *
+ * <p><strong>Trabajo bloqueante:</strong> el cálculo de BCrypt y el envío de eventos a Kafka
+ * se ejecutan en {@link Schedulers#boundedElastic()} para no ocupar los hilos del event loop
+ * de Reactor Netty.</p>
+ *
+ * @see UserServiceImpl
+ * @see ReactiveUserService
+ */
+@RequiredArgsConstructor
+@Slf4j
+@Service
+public class ReactiveUserServiceImpl implements ReactiveUserService {
+
+    private final UserClient userClient;
+    private final UserNotificationProducer userNotificationProducer;
+    private final PasswordUtils passwordUtils;
+    private final KnownEmailIndex knownEmailIndex;
+    private final RefreshTokenUtils refreshTokenUtils;
+
+    /**
+     * Tamaño de página usado al exportar usuarios (máximo aceptado por el servicio de datos).
+     */
+    private static final int STREAM_PAGE_SIZE = 100;
+
+    /**
+     * Páginas que se piden por adelantado al exportar; limita la memoria usada a
+     * {@code STREAM_PAGE_SIZE * STREAM_PREFETCH_PAGES} usuarios sin importar el total.
+     */
+    private static final int STREAM_PREFETCH_PAGES = 2;
+
+    /**
+     * Registra un nuevo usuario encriptando la contraseña fuera del event loop.
+     *
+     * @param user DTO con la información del usuario a registrar
+     * @return {@link Mono} con el usuario registrado
+     * @see UserServiceImpl#registerUser(UserRegistration)
+     */
+    @Override
+    public Mono<UserResponse> registerUser(UserRegistration user) {
+        return rejectIfEmailRegistered(user.email())
+                .then(Mono.fromCallable(() -> passwordUtils.encryptPassword(user))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .doOnNext(encryptedUser -> log.info("Intentando registrar usuario con email: {}", encryptedUser.email()))
+                .flatMap(userClient::registerUserReactive)
+                .flatMap(response -> {
+                    log.info("Usuario registrado exitosamente con id: {}", response.id());
+                    knownEmailIndex.add(response.email());
+                    return notifyAsync(() -> userNotificationProducer.sendWelcome(response)).thenReturn(response);
+                })
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Error al registrar usuario. Código: {}, Detalle: {}", e.getStatusCode(), e.getResponseBodyAsString());
+                    if (e.getStatusCode().value() == 409) {
+                        return new DuplicateEmailException("El correo electrónico ya está registrado.");
+                    }
+                    return externalServiceError(e);
+                });
+    }
+
+    /**
+     * Falla con {@link DuplicateEmailException} si el email ya está registrado, consultando el
+     * servicio solo cuando el índice de emails indica que puede existir.
+     *
+     * @see UserServiceImpl#registerUser(UserRegistration)
+     */
+    private Mono<Void> rejectIfEmailRegistered(String email) {
+        if (!knownEmailIndex.mightExist(email)) {
+            return Mono.empty();
+        }
+        return userClient.getUserByEmailReactive(email)
+                .flatMap(existing -> {
+                    log.error("Error al registrar usuario: el email {} ya está registrado", email);
+                    return Mono.<Void>error(new DuplicateEmailException("El correo electrónico ya está registrado."));
+                })
+                .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty())
+                .then();
+    }
+
+    /**
+     * Obtiene una lista paginada de usuarios.
+     *
+     * @param page Número de página a consultar (comienza en 1)
+     * @param size Tamaño de la página
+     * @return {@link Mono} con la página de usuarios
+     * @see UserServiceImpl#getUsers(int, int)
+     */
+    @Override
+    public Mono<PaginatedUserResponse> getUsers(int page, int size) {
+        log.info("Obteniendo usuarios, página: {}, tamaño: {}", page, size);
+        return userClient.getUsersPaginatedReactive(page, size)
+                .doOnNext(response -> log.info("Usuarios obtenidos exitosamente, total en página: {}",
+                        response.users() != null ? response.users().size() : 0))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Error al obtener usuarios. Código: {}, Detalle: {}",
+                            e.getStatusCode(), e.getResponseBodyAsString());
+                    return new ExternalServiceException(
+                            "Error inesperado al comunicarse con el servicio de usuarios: " + e.getResponseBodyAsString());
+                });
+    }
+
+    /**
+     * Obtiene una página de usuarios por cursor.
+     *
+     * @param after Cursor de la página anterior; vacío o {@code null} para la primera página
+     * @param size Tamaño de la página
+     * @return {@link Mono} con la página de usuarios y el cursor siguiente
+     * @see UserServiceImpl#getUsers(String, int)
+     */
+    @Override
+    public Mono<CursorUserResponse> getUsers(String after, int size) {
+        return Mono.fromCallable(() -> UserCursorCodec.decode(after))
+                .flatMap(afterId -> {
+                    log.info("Obteniendo usuarios después del id: {}, tamaño: {}", afterId, size);
+                    return userClient.getUsersAfterReactive(afterId, size);
+                })
+                .map(page -> UserServiceImpl.toCursorResponse(page, size))
+                .defaultIfEmpty(UserServiceImpl.toCursorResponse(null, size))
+                .doOnNext(response -> log.info("Usuarios obtenidos exitosamente, total en página: {}",
+                        response.users().size()))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Error al obtener usuarios por cursor. Código: {}, Detalle: {}",
+                            e.getStatusCode(), e.getResponseBodyAsString());
+                    return externalServiceError(e);
+                });
+    }
+
+    /**
+     * Obtiene un usuario por su identificador.
+     *
+     * @param userId Identificador único del usuario a consultar
+     * @return {@link Mono} con el usuario solicitado
+     * @see UserServiceImpl#getUser(int)
+     */
+    @Override
+    public Mono<UserResponse> getUser(int userId) {
+        return validateUserId(userId)
+                .then(Mono.defer(() -> {
+                    log.info("Intentando obtener usuario con id: {}", userId);
+                    return userClient.getUserByIdReactive(userId);
+                }))
+                .doOnNext(response -> log.info("Usuario obtenido exitosamente con id: {}", response.id()))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Error al obtener usuario. Código: {}, Detalle: {}", e.getStatusCode(), e.getResponseBodyAsString());
+                    return notFoundOrExternal(e, "Usuario con id " + userId + " no encontrado.");
+                });
+    }
+
+    /**
+     * Obtiene un usuario como JSON sin decodificar.
+     *
+     * @see UserServiceImpl#getUserJson(int)
+     */
+    @Override
+    public Mono<RawJson> getUserJson(int userId) {
+        return validateUserId(userId)
+                .then(Mono.defer(() -> {
+                    log.info("Intentando obtener usuario con id: {} (pass-through)", userId);
+                    return userClient.getUserJsonReactive(userId);
+                }))
+                .doOnNext(response -> log.info("Usuario obtenido exitosamente con id: {}", userId))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Error al obtener usuario. Código: {}, Detalle: {}", e.getStatusCode(), e.getResponseBodyAsString());
+                    return notFoundOrExternal(e, "Usuario con id " + userId + " no encontrado.");
+                });
+    }
+
+    /**
+     * Obtiene una página de usuarios como JSON sin decodificar.
+     *
+     * @see UserServiceImpl#getUsersJson(int, int)
+     */
+    @Override
+    public Mono<RawJson> getUsersJson(int page, int size) {
+        log.info("Obteniendo usuarios, página: {}, tamaño: {} (pass-through)", page, size);
+        return userClient.getUsersPaginatedJsonReactive(page, size)
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Error al obtener usuarios. Código: {}, Detalle: {}",
+                            e.getStatusCode(), e.getResponseBodyAsString());
+                    return externalServiceError(e);
+                });
+    }
+
+    /**
+     * Obtiene varios usuarios por id.
+     *
+     * <p>Cada id pasa por {@link UserClient#getUserByIdReactive(int)}: los que están en la caché
+     * local no generan llamadas y el resto se agrupa en llamadas multi-id al servicio de datos.</p>
+     *
+     * @param userIds Identificadores de los usuarios a consultar
+     * @return {@link Mono} con los usuarios encontrados, en el orden pedido y sin repetidos
+     */
+    @Override
+    public Mono<List<UserResponse>> getUsersByIds(List<Integer> userIds) {
+        log.info("Intentando obtener {} usuarios por id", userIds.size());
+        return Flux.fromIterable(userIds)
+                .distinct()
+                .flatMapSequential(id -> userClient.getUserByIdReactive(id)
+                        .onErrorResume(WebClientResponseException.NotFound.class, e -> Mono.empty()))
+                .collectList()
+                .doOnNext(users -> log.info("Usuarios obtenidos exitosamente: {} de {}", users.size(), userIds.size()))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Error al obtener usuarios por id. Código: {}, Detalle: {}", e.getStatusCode(), e.getResponseBodyAsString());
+                    return externalServiceError(e);
+                });
+    }
+
+    /**
+     * Emite todos los usuarios recorriendo las páginas del servicio de datos por cursor.
+     *
+     * <p>Se usa el cursor y no {@code page}: cada página cuesta lo mismo sin importar la
+     * profundidad, y un usuario eliminado durante la exportación no hace que se salte otro.</p>
+     *
+     * <p>La página siguiente solo se pide cuando el consumidor ha procesado la anterior
+     * (con {@value #STREAM_PREFETCH_PAGES} páginas de margen), así que un cliente lento frena la
+     * lectura en lugar de acumular usuarios en memoria.</p>
+     *
+     * @return {@link Flux} con los usuarios ordenados por id
+     */
+    @Override
+    public Flux<UserResponse> streamUsers() {
+        log.info("Iniciando exportación de usuarios en páginas de {}", STREAM_PAGE_SIZE);
+        return userClient.getUsersAfterReactive(0, STREAM_PAGE_SIZE)
+                .expand(page -> page.nextCursor() != null
+                        ? userClient.getUsersAfterReactive(page.nextCursor(), STREAM_PAGE_SIZE)
+                        : Mono.empty())
+                .concatMapIterable(page -> page.users() != null ? page.users() : List.<UserResponse>of(),
+                        STREAM_PREFETCH_PAGES)
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Error al exportar usuarios. Código: {}, Detalle: {}", e.getStatusCode(), e.getResponseBodyAsString());
+                    return externalServiceError(e);
+                });
+    }
+
+    /**
+     * Actualiza un usuario verificado. La comprobación de propiedad ({@link IsOwner}) se
+     * realiza al invocar el método, antes de suscribirse al {@link Mono}.
+     *
+     * @param id Identificador único del usuario a actualizar
+     * @param userUpdateRequest DTO con los datos actualizados del usuario
+     * @return {@link Mono} con el usuario actualizado
+     * @see UserServiceImpl#updateUser(int, UserUpdateRequest)
+     */
+    @Override
+    @IsOwner
+    public Mono<UserResponse> updateUser(int id, UserUpdateRequest userUpdateRequest) {
+        String email = userUpdateRequest.email();
+        return validateUserId(id)
+                .then(Mono.defer(() -> userClient.getUserByIdReactive(id)))
+                .flatMap(current -> {
+                    if (current.account_status() != UserAccountStatusEnum.VERIFIED) {
+                        log.error("Error en actualización de contraseña: Usuario con el email {}, con estado de cuenta {} (Debe ser {})", email, current.account_status(), UserAccountStatusEnum.VERIFIED);
+                        return Mono.error(new UserAccountNotVerifiedException("Usuario con email: " + email + " no está verificado. Por favor verificar."));
+                    }
+                    log.info("Intentando actualizar usuario con id: {}", id);
+                    return userClient.updateUserReactive(id, userUpdateRequest);
+                })
+                .doOnNext(response -> {
+                    log.info("Usuario actualizado exitosamente con id: {}", response.id());
+                    knownEmailIndex.add(response.email());
+                })
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Error al actualizar usuario. Código: {}, Detalle: {}", e.getStatusCode(), e.getResponseBodyAsString());
+                    return switch (e.getStatusCode().value()) {
+                        case 404 -> new UserNotFoundException("Usuario con id " + id + " no encontrado.");
+                        case 406 -> new UserAccountNotVerifiedException("Usuario con email " + email + " no verificado.");
+                        case 409 -> new DuplicateEmailException("El correo electrónico ya está registrado.");
+                        default -> externalServiceError(e);
+                    };
+                });
+    }
+
+    /**
+     * Elimina lógicamente un usuario.
+     *
+     * @param userId Identificador único del usuario a eliminar
+     * @return {@link Mono} que completa cuando el usuario ha sido eliminado
+     * @see UserServiceImpl#deleteUser(int)
+     */
+    @Override
+    @IsOwner
+    public Mono<Void> deleteUser(int userId) {
+        return validateUserId(userId)
+                .then(Mono.defer(() -> {
+                    log.info("Intentando eliminar usuario con id: {}", userId);
+                    return userClient.deleteUserReactive(userId);
+                }))
+                .doOnSuccess(ignored -> {
+                    refreshTokenUtils.revokeAll(userId);
+                    log.info("Usuario con id {} eliminado exitosamente.", userId);
+                })
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Error al eliminar usuario. Código: {}, Detalle: {}", e.getStatusCode(), e.getResponseBodyAsString());
+                    return notFoundOrExternal(e, "Usuario con id " + userId + " no encontrado.");
+                });
+    }
+
+    /**
+     * Recupera la contraseña del usuario usando el otp.
+     *
+     * @param passwordRecoveryRequest email, otp y nueva contraseña del usuario
+     * @param id Identificador único del usuario
+     * @return {@link Mono} que emite {@code true} si la actualización fue exitosa
+     * @see UserServiceImpl#updatePassword(PasswordRecoveryRequest, int)
+     */
+    @Override
+    public Mono<Boolean> updatePassword(PasswordRecoveryRequest passwordRecoveryRequest, int id) {
+        String email = passwordRecoveryRequest.email();
+        String otp = passwordRecoveryRequest.otp();
+        log.info("Intentando encontrar el usuario con id:{}, e email: {}", id, email);
+
+        return userClient.getUserByIdReactive(id)
+                .flatMap(response -> {
+                    if (!response.email().equals(email)) {
+                        log.error("Error en actualización de contraseña: Usuario con el email {}, no es el mismo usuario con id {} ", email, id);
+                        return Mono.error(new EmailAndIdNotFromSameUserException("Email " + email + " no corresponde al correo del usuario con id: " + id));
+                    }
+
+                    log.info("Intentando cambiar la contraseña para el usuario con id: {}, e email: {}, usando el OTP: {}", id, email, otp);
+                    return Mono.fromCallable(() -> passwordUtils.encryptPassword(passwordRecoveryRequest))
+                            .subscribeOn(Schedulers.boundedElastic())
+                            .flatMap(pr -> userClient.recoverPasswordReactive(pr, id))
+                            .then(Mono.fromRunnable(() -> refreshTokenUtils.revokeAll(id)))
+                            .then(notifyAsync(() -> userNotificationProducer.sendPasswordChanged(response)))
+                            .thenReturn(true);
+                })
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Error al actualizar la contraseña. Código: {}, Detalle: {}", e.getStatusCode(), e.getResponseBodyAsString());
+                    return switch (e.getStatusCode().value()) {
+                        case 404 -> new UserNotFoundException("Usuario con email " + email + " no encontrado.");
+                        case 405 -> new EmailAndIdNotFromSameUserException("Al usuario con id " + id + " no le pertenece el email " + email);
+                        case 400 -> new InvalidOTPException("El opt es invalido o ha expirado");
+                        default -> externalServiceError(e);
+                    };
+                });
+    }
+
+    /**
+     * Cambia el estado de un usuario de {@link UserAccountStatusEnum#PENDING_VALIDATION} a
+     * {@link UserAccountStatusEnum#VERIFIED}.
+     *
+     * @param userId Identificador único del usuario cuyo estado se actualizará
+     * @return {@link Mono} con el nuevo estado de la cuenta
+     * @see UserServiceImpl#verifyUserAccount(int)
+     */
+    @Override
+    public Mono<AccountStatusResponse> verifyUserAccount(int userId) {
+        return validateUserId(userId)
+                .then(Mono.defer(() -> {
+                    log.info("Iniciando verificación de usuario con id: {}", userId);
+                    return userClient.getUserByIdReactive(userId);
+                }))
+                .flatMap(response -> {
+                    if (response.account_status() == UserAccountStatusEnum.VERIFIED) {
+                        return Mono.error(new InvalidUserStatusException("El usuario ya esta verificado."));
+                    }
+                    if (response.account_status() == UserAccountStatusEnum.DELETED) {
+                        return Mono.error(new InvalidUserStatusException("El usuario se encuentra elimindado."));
+                    }
+                    return userClient.verifyUserReactive(userId)
+                            .flatMap(status -> notifyAsync(() -> userNotificationProducer.sendAccountVerified(response))
+                                    .thenReturn(status));
+                })
+                .doOnNext(status -> log.info("Usuario con id {} verificado exitosamente.", userId))
+                .onErrorMap(WebClientResponseException.class, e -> {
+                    log.error("Error al verificar usuario. Código: {}, Detalle: {}", e.getStatusCode(), e.getResponseBodyAsString());
+                    return notFoundOrExternal(e, "Usuario con id " + userId + " no encontrado.");
+                });
+    }
+
+    /**
+     * Valida que el ID proporcionado sea un entero positivo.
+     *
+     * @param userId ID del usuario a validar
+     * @return {@link Mono} vacío si el ID es válido, o con error {@link InvalidIdException}
+     */
+    private Mono<Void> validateUserId(int userId) {
+        if (userId <= 0) {
+            return Mono.error(new InvalidIdException("El ID proporcionado no es válido: " + userId));
+        }
+        return Mono.empty();
+    }
+
+    /**
+     * Publica un evento fuera del event loop; el productor de Kafka puede bloquear
+     * mientras obtiene metadatos del broker.
+     */
+    private Mono<Void> notifyAsync(Runnable notification) {
+        return Mono.fromRunnable(notification)
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    private RuntimeException notFoundOrExternal(WebClientResponseException e, String notFoundMessage) {
+        if (e.getStatusCode().value() == 404) {
+            return new UserNotFoundException(notFoundMessage);
+        }
+        return externalServiceError(e);
+    }
+
+    private ExternalServiceException externalServiceError(WebClientResponseException e) {
+        return new ExternalServiceException(
+                "Error al comunicarse con el servicio de usuarios: " + e.getResponseBodyAsString()
+        );
+    }
+}
@@ -8,12 +8,17 @@ import com.uniquindio.userservice.exception.InvalidOTPException;
 import com.uniquindio.userservice.exception.OtpCreationException;
 import com.uniquindio.userservice.exception.userException.*;
 import com.uniquindio.userservice.service.interfaces.UserService;
+import com.uniquindio.userservice.util.KnownEmailIndex;
 import com.uniquindio.userservice.util.PasswordUtils;
+import com.uniquindio.userservice.util.RefreshTokenUtils;
+import com.uniquindio.userservice.util.UserCursorCodec;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 
+import java.util.List;
+
 /**
  * Implementación del servicio de gestión de usuarios.
  * 
@@ -58,6 +63,9 @@ public class UserServiceImpl implements UserService {
      */
     private final UserClient userClient;
     private final UserNotificationProducer userNotificationProducer;
+    private final PasswordUtils passwordUtils;
+    private final KnownEmailIndex knownEmailIndex;
+    private final RefreshTokenUtils refreshTokenUtils;
 
     /**
      * Registra un nuevo usuario en el sistema.
@@ -68,6 +76,8 @@ public class UserServiceImpl implements UserService {
      * 
      * <p><strong>Flujo de la operación:</strong></p>
      * <ol>
+     *   <li>Si el {@link KnownEmailIndex} indica que el email puede existir, se confirma con el
+     *       servicio externo antes de encriptar, para no calcular BCrypt en un registro duplicado</li>
      *   <li>Encriptación de la contraseña del usuario usando {@link PasswordUtils}</li>
      *   <li>Intento de registro en el servicio externo mediante {@link UserClient}</li>
      *   <li>Manejo de respuestas exitosas y errores HTTP</li>
@@ -93,12 +103,14 @@ public class UserServiceImpl implements UserService {
      */
     @Override
     public UserResponse registerUser(UserRegistration user) {
-        UserRegistration encryptedUser = PasswordUtils.encryptPassword(user);
+        rejectIfEmailRegistered(user.email());
+        UserRegistration encryptedUser = passwordUtils.encryptPassword(user);
 
         try {
             log.info("Intentando registrar usuario con email: {}", encryptedUser.email());
             UserResponse response = userClient.registerUser(encryptedUser);
             log.info("Usuario registrado exitosamente con id: {}", response.id());
+            knownEmailIndex.add(response.email());
             userNotificationProducer.sendWelcome(response);
             return response;
         } catch (WebClientResponseException e) {
@@ -114,6 +126,30 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    /**
+     * Lanza {@link DuplicateEmailException} si el email ya está registrado.
+     *
+     * <p>Solo consulta el servicio externo cuando el índice de emails indica que el email
+     * puede existir; un 404 significa que fue un falso positivo y el registro continúa.</p>
+     */
+    private void rejectIfEmailRegistered(String email) {
+        if (!knownEmailIndex.mightExist(email)) {
+            return;
+        }
+        try {
+            userClient.getUserByEmail(email);
+        } catch (WebClientResponseException e) {
+            if (e.getStatusCode().value() == 404) {
+                return;
+            }
+            throw new ExternalServiceException(
+                    "Error al comunicarse con el servicio de usuarios: " + e.getResponseBodyAsString()
+            );
+        }
+        log.error("Error al registrar usuario: el email {} ya está registrado", email);
+        throw new DuplicateEmailException("El correo electrónico ya está registrado.");
+    }
+
     /**
      * Obtiene una lista paginada de usuarios del sistema.
      * 
@@ -157,6 +193,53 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    /**
+     * Obtiene una página de usuarios por cursor (paginación keyset).
+     *
+     * <p>El cursor es opaco para el cliente (ver {@link UserCursorCodec}) y representa el id del
+     * último usuario entregado. El servicio de datos busca los siguientes usuarios sobre la
+     * llave primaria, así que la latencia es la misma en la primera página que en la página
+     * mil, y un usuario eliminado entre dos llamadas no desplaza los resultados como ocurre
+     * con {@code page}/{@code size}.</p>
+     *
+     * @param after Cursor devuelto en {@code nextCursor} por la página anterior; vacío o
+     *              {@code null} para la primera página
+     * @param size Tamaño de la página
+     * @return {@link CursorUserResponse} con los usuarios y el cursor de la página siguiente
+     * @throws InvalidCursorException si el cursor no es válido
+     * @throws ExternalServiceException si ocurre un error de comunicación con el servicio externo
+     * @see UserClient#getUsersAfter(int, int)
+     */
+    @Override
+    public CursorUserResponse getUsers(String after, int size) {
+        int afterId = UserCursorCodec.decode(after);
+        try {
+            log.info("Obteniendo usuarios después del id: {}, tamaño: {}", afterId, size);
+            UserCursorPage page = userClient.getUsersAfter(afterId, size);
+            CursorUserResponse response = toCursorResponse(page, size);
+            log.info("Usuarios obtenidos exitosamente, total en página: {}", response.users().size());
+            return response;
+        } catch (WebClientResponseException e) {
+            log.error("Error al obtener usuarios por cursor. Código: {}, Detalle: {}",
+                    e.getStatusCode(), e.getResponseBodyAsString());
+            throw new ExternalServiceException(
+                    "Error inesperado al comunicarse con el servicio de usuarios: " + e.getResponseBodyAsString());
+        }
+    }
+
+    /**
+     * Traduce la página del servicio de datos a la respuesta pública, codificando el cursor.
+     */
+    static CursorUserResponse toCursorResponse(UserCursorPage page, int size) {
+        if (page == null) {
+            return new CursorUserResponse(size, List.of(), null);
+        }
+        return new CursorUserResponse(
+                page.pageSize(),
+                page.users() != null ? page.users() : List.of(),
+                UserCursorCodec.encode(page.nextCursor()));
+    }
+
     /**
      * Obtiene la información detallada de un usuario específico por su identificador.
      * 
@@ -208,6 +291,56 @@ public class UserServiceImpl implements UserService {
         }
     }
 
+    /**
+     * Obtiene un usuario como JSON sin decodificar (modo pass-through).
+     *
+     * <p>Aplica las mismas validaciones y la misma traducción de errores que {@link #getUser(int)}.</p>
+     *
+     * @param userId Identificador único del usuario a consultar
+     * @return el JSON del usuario tal como lo devolvió el servicio de datos
+     * @see UserClient#getUserJson(int)
+     */
+    @Override
+    public RawJson getUserJson(int userId) {
+        validateUserId(userId);
+        try {
+            log.info("Intentando obtener usuario con id: {} (pass-through)", userId);
+            RawJson response = userClient.getUserJson(userId);
+            log.info("Usuario obtenido exitosamente con id: {}", userId);
+            return response;
+        } catch (WebClientResponseException e) {
+            log.error("Error al obtener usuario. Código: {}, Detalle: {}", e.getStatusCode(), e.getResponseBodyAsString());
+            if (e.getStatusCode().value() == 404) {
+                throw new UserNotFoundException("Usuario con id " + userId + " no encontrado.");
+            } else {
+                throw new ExternalServiceException(
+                        "Error al comunicarse con el servicio de usuarios: " + e.getResponseBodyAsString()
+                );
+            }
+        }
+    }
+
+    /**
+     * Obtiene una página de usuarios como JSON sin decodificar (modo pass-through).
+     *
+     * @param page Número de página a consultar (comienza en 1)
+     * @param size Tamaño de la página
+     * @return el JSON de la página tal como lo devolvió el servicio de datos
+     * @see UserClient#getUsersPaginatedJson(int, int)
+     */
+    @Override
+    public RawJson getUsersJson(int page, int size) {
+        try {
+            log.info("Obteniendo usuarios, página: {}, tamaño: {} (pass-through)", page, size);
+            return userClient.getUsersPaginatedJson(page, size);
+        } catch (WebClientResponseException e) {
+            log.error("Error al obtener usuarios. Código: {}, Detalle: {}",
+                    e.getStatusCode(), e.getResponseBodyAsString());
+            throw new ExternalServiceException(
+                    "Error inesperado al comunicarse con el servicio de usuarios: " + e.getResponseBodyAsString());
+        }
+    }
+
     /**
      * Actualiza la información de un usuario existente en el sistema.
      * 
@@ -260,6 +393,7 @@ public class UserServiceImpl implements UserService {
             log.info("Intentando actualizar usuario con id: {}", id);
             response = userClient.updateUser(id, userUpdateRequest);
             log.info("Usuario actualizado exitosamente con id: {}", response.id());
+            knownEmailIndex.add(response.email());
             return response;
         } catch (WebClientResponseException e) {
             log.error("Error al actualizar usuario. Código: {}, Detalle: {}", e.getStatusCode(), e.getResponseBodyAsString());
@@ -321,6 +455,7 @@ public class UserServiceImpl implements UserService {
         try {
             log.info("Intentando eliminar usuario con id: {}", userId);
             userClient.deleteUser(userId);
+            refreshTokenUtils.revokeAll(userId);
             log.info("Usuario con id {} eliminado exitosamente.", userId);
         } catch (WebClientResponseException e) {
             log.error("Error al eliminar usuario. Código: {}, Detalle: {}", e.getStatusCode(), e.getResponseBodyAsString());
@@ -409,8 +544,10 @@ public class UserServiceImpl implements UserService {
             }
 
             log.info("Intentando cambiar la contraseña para el usuario con id: {}, e email: {}, usando el OTP: {}", id, email, otp);
-            PasswordRecoveryRequest pr = PasswordUtils.encryptPassword(passwordRecoveryRequest);
+            PasswordRecoveryRequest pr = passwordUtils.encryptPassword(passwordRecoveryRequest);
             userClient.recoverPassword(pr, id);
+            // Las sesiones abiertas con la contraseña anterior dejan de poder renovarse
+            refreshTokenUtils.revokeAll(id);
             userNotificationProducer.sendPasswordChanged(response);
 
             return true;
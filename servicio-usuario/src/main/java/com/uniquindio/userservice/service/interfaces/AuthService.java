@@ -3,7 +3,9 @@ package com.uniquindio.userservice.service.interfaces;
 import com.uniquindio.userservice.dto.*;
 
 public interface AuthService {
-    String login(LoginRequest loginRequest);
+    AuthTokens login(LoginRequest loginRequest);
+
+    AuthTokens refresh(RefreshTokenRequest refreshTokenRequest);
 
     OtpResponse requestOtp(OtpRequest otpRequest);
 }
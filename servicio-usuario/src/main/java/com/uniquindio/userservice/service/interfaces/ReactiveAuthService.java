@@ -0,0 +1,15 @@
+package com.uniquindio.userservice.service.interfaces;
+
+import com.uniquindio.userservice.dto.*;
+import reactor.core.publisher.Mono;
+
+/**
+ * Variante no bloqueante de {@link AuthService}.
+ */
+public interface ReactiveAuthService {
+    Mono<AuthTokens> login(LoginRequest loginRequest);
+
+    Mono<AuthTokens> refresh(RefreshTokenRequest refreshTokenRequest);
+
+    Mono<OtpResponse> requestOtp(OtpRequest otpRequest);
+}
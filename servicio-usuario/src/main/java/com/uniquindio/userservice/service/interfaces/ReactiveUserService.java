@@ -0,0 +1,57 @@
+package com.uniquindio.userservice.service.interfaces;
+
+import com.uniquindio.userservice.dto.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Variante no bloqueante de {@link UserService}.
+ *
+ * <p>Cada operación devuelve un {@link Mono} que compone las llamadas al servicio de datos
+ * sin retener el hilo de la petición mientras se espera la respuesta remota.</p>
+ */
+public interface ReactiveUserService {
+
+    Mono<UserResponse> registerUser(UserRegistration user);
+
+    Mono<PaginatedUserResponse> getUsers(int page, int size);
+
+    /**
+     * Obtiene la página de usuarios que sigue al cursor {@code after}; vacío o {@code null}
+     * para la primera página.
+     */
+    Mono<CursorUserResponse> getUsers(String after, int size);
+
+    Mono<UserResponse> getUser(int userId);
+
+    /**
+     * Igual que {@link #getUser(int)}, pero devuelve el JSON del servicio de datos sin decodificar.
+     */
+    Mono<RawJson> getUserJson(int userId);
+
+    /**
+     * Igual que {@link #getUsers(int, int)}, pero devuelve el JSON del servicio de datos sin decodificar.
+     */
+    Mono<RawJson> getUsersJson(int page, int size);
+
+    /**
+     * Obtiene varios usuarios por id, en el orden pedido y omitiendo los que no existen.
+     */
+    Mono<List<UserResponse>> getUsersByIds(List<Integer> userIds);
+
+    /**
+     * Emite todos los usuarios uno a uno, pidiendo páginas al servicio de datos a medida
+     * que el consumidor avanza.
+     */
+    Flux<UserResponse> streamUsers();
+
+    Mono<UserResponse> updateUser(int id, UserUpdateRequest userUpdateRequest);
+
+    Mono<Void> deleteUser(int id);
+
+    Mono<Boolean> updatePassword(PasswordRecoveryRequest passwordRecoveryRequest, int id);
+
+    Mono<AccountStatusResponse> verifyUserAccount(int userId);
+}
@@ -10,8 +10,14 @@ public interface UserService {
 
     PaginatedUserResponse getUsers(int page, int size);
 
+    CursorUserResponse getUsers(String after, int size);
+
     UserResponse getUser(int userId);
 
+    RawJson getUserJson(int userId);
+
+    RawJson getUsersJson(int page, int size);
+
     UserResponse updateUser(int id, UserUpdateRequest userUpdateRequest);
 
     void deleteUser(int id);
@@ -0,0 +1,66 @@
+package com.uniquindio.userservice.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link RateLimitStore} en memoria, sin locks.
+ *
+ * <p>Cada bucket aplica GCRA (generic cell rate algorithm), equivalente a un token bucket:
+ * en lugar de contar permisos guarda un solo {@code long}, el instante teórico en que el bucket
+ * vuelve a estar lleno, y lo avanza con compare-and-set. Las peticiones concurrentes sobre el
+ * mismo email o IP nunca se bloquean entre sí y no se necesita un hilo de recarga.</p>
+ *
+ * <p>Un bucket que lleva {@code idleTimeout} sin usarse está lleno (igual que uno nuevo), así
+ * que se descarta sin perder información y la memoria depende solo de los clientes activos. El
+ * número de buckets además está acotado: si se alcanza el máximo se descartan los menos usados,
+ * que vuelven a empezar llenos.</p>
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    public static final String CACHE_NAME = "rate-limit-buckets";
+
+    /** Origen de los tiempos, para trabajar con valores positivos de {@link System#nanoTime()}. */
+    private final long origin = System.nanoTime();
+    private final Cache<String, AtomicLong> buckets;
+
+    /**
+     * @param maximumSize   número máximo de buckets en memoria
+     * @param idleTimeout   periodo del límite más largo: un bucket sin uso durante ese tiempo está lleno
+     * @param meterRegistry registro de métricas
+     */
+    public InMemoryRateLimitStore(long maximumSize, Duration idleTimeout, MeterRegistry meterRegistry) {
+        Cache<String, AtomicLong> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(idleTimeout)
+                .recordStats()
+                .build();
+        this.buckets = CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Decision tryAcquire(String key, RateLimit limit) {
+        AtomicLong fullAt = buckets.get(key, k -> new AtomicLong());
+        long interval = limit.emissionIntervalNanos();
+        long burst = interval * limit.capacity();
+        while (true) {
+            long now = System.nanoTime() - origin;
+            long current = fullAt.get();
+            long next = Math.max(current, now) + interval;
+            long allowedAt = next - burst;
+            if (now < allowedAt) {
+                return new Decision(false, limit.capacity(), 0,
+                        Duration.ofNanos(Math.max(current, now) - now), Duration.ofNanos(allowedAt - now));
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                int remaining = (int) ((burst - (next - now)) / interval);
+                return new Decision(true, limit.capacity(), remaining, Duration.ofNanos(next - now), Duration.ZERO);
+            }
+        }
+    }
+}
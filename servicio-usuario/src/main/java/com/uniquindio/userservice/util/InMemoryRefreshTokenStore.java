@@ -0,0 +1,96 @@
+package com.uniquindio.userservice.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * {@link RefreshTokenStore} en memoria, acotado en tamaño.
+ *
+ * <p>Cada entrada guarda solo el hash del token, su familia, el usuario y el vencimiento, y
+ * desaparece sola al vencer. Los tokens consumidos se conservan hasta su vencimiento para
+ * detectar su reutilización. Las familias revocadas se recuerdan durante la vida de un token,
+ * así que ningún token de la familia emitido antes de la revocación puede volver a usarse, sin
+ * necesidad de un índice por familia. Igual con los usuarios: se guarda el instante de la
+ * revocación y se rechazan las familias iniciadas hasta ese instante.</p>
+ *
+ * <p>Los tokens se pierden al reiniciar la instancia y no se comparten entre réplicas: los
+ * clientes afectados deben volver a iniciar sesión.</p>
+ */
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    public static final String CACHE_NAME = "refresh-tokens";
+
+    private record Entry(RefreshToken token, boolean consumed) {
+    }
+
+    private final Cache<String, Entry> tokens;
+    private final Cache<String, Boolean> revokedFamilies;
+    private final Cache<Integer, Instant> revokedUsers;
+
+    /**
+     * @param maximumSize   número máximo de tokens en memoria
+     * @param tokenLifetime vida de un token; también es el tiempo que se recuerda una familia revocada
+     * @param meterRegistry registro de métricas
+     */
+    public InMemoryRefreshTokenStore(long maximumSize, Duration tokenLifetime, MeterRegistry meterRegistry) {
+        Cache<String, Entry> cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((String hash, Entry entry) -> untilExpiration(entry.token())))
+                .recordStats()
+                .build();
+        this.tokens = CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        this.revokedFamilies = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(tokenLifetime)
+                .build();
+        this.revokedUsers = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(tokenLifetime)
+                .build();
+    }
+
+    @Override
+    public void save(String tokenHash, RefreshToken token) {
+        tokens.put(tokenHash, new Entry(token, false));
+    }
+
+    @Override
+    public Consumption consume(String tokenHash) {
+        Entry[] previous = new Entry[1];
+        // computeIfPresent es atómico por clave; Expiry.creating conserva el vencimiento al reemplazar
+        tokens.asMap().computeIfPresent(tokenHash, (hash, entry) -> {
+            previous[0] = entry;
+            return entry.consumed() ? entry : new Entry(entry.token(), true);
+        });
+        Entry entry = previous[0];
+        if (entry == null || revokedFamilies.getIfPresent(entry.token().familyId()) != null) {
+            return Consumption.INVALID;
+        }
+        Instant userRevokedAt = revokedUsers.getIfPresent(entry.token().userId());
+        if (userRevokedAt != null && !entry.token().issuedAt().isAfter(userRevokedAt)) {
+            return Consumption.INVALID;
+        }
+        return new Consumption(entry.consumed() ? Status.REUSED : Status.ACTIVE, entry.token());
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        revokedFamilies.put(familyId, Boolean.TRUE);
+    }
+
+    @Override
+    public void revokeUser(int userId) {
+        revokedUsers.put(userId, Instant.now());
+    }
+
+    private static Duration untilExpiration(RefreshToken token) {
+        Duration remaining = Duration.between(Instant.now(), token.expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+}
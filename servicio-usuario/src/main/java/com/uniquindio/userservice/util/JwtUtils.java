@@ -1,12 +1,25 @@
 package com.uniquindio.userservice.util;
 
 import com.uniquindio.userservice.dto.UserAuthResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.uniquindio.userservice.config.JwtClaimsCacheConfig;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 
 /**
  * Utilidad para la generación y validación de tokens JWT.
@@ -21,7 +34,40 @@ import java.util.Date;
 public class JwtUtils {
 
     private static final long EXPIRATION_TIME = 3600000; // 1 hora en milisegundos
-    // Tiempo de expiración del refresh token: 30 días (en milisegundos)
+    private static final HexFormat HEX = HexFormat.of();
+
+    /**
+     * Parser inmutable y seguro entre hilos: se construye una sola vez y toma la llave de
+     * verificación del {@link KeyRing} según el {@code kid} de cada token.
+     */
+    private final JwtParser parser;
+    private final KeyRing keyRing;
+    private final Cache<String, Claims> claimsCache;
+    private final Timer verifyTimer;
+
+    /**
+     * @param keyRing       llaves de firma y verificación
+     * @param claimsCache   caché de tokens verificados, por SHA-256 del token. Se vacía cuando
+     *                      cambian las llaves, para no aceptar tokens de una llave retirada
+     * @param meterRegistry registro de métricas
+     */
+    public JwtUtils(KeyRing keyRing, Cache<String, Claims> claimsCache, MeterRegistry meterRegistry) {
+        this.keyRing = keyRing;
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return keyRing.verificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+        this.claimsCache = claimsCache;
+        keyRing.onReload(claimsCache::invalidateAll);
+        this.verifyTimer = Timer.builder("jwt.verify")
+                .description("Verificaciones de firma de tokens JWT (sin contar los aciertos de caché)")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+    }
 
     /**
      * Genera un token JWT para el usuario proporcionado.
@@ -30,12 +76,23 @@ public class JwtUtils {
      * @return Token JWT generado.
      */
     public String generateToken(UserAuthResponse user) {
-        log.debug("Generando token JWT para el usuario: {}", user.email());
-        //log.info("Private key hash: {}", KeyUtils.getPrivateKey().hashCode());
+        return generateToken(user.id(), user.email());
+    }
+
+    /**
+     * Genera un token JWT a partir del id y el email del usuario, sin necesidad de consultarlo
+     * (renovación con refresh token).
+     *
+     * @param userId id del usuario.
+     * @param email  email del usuario.
+     * @return Token JWT generado.
+     */
+    public String generateToken(int userId, String email) {
+        log.debug("Generando token JWT para el usuario: {}", email);
         Instant now = getCurrentInstant();
         Instant expiration = calculateExpiration(now);
-        String token = buildJwtToken(user, now, expiration);
-        log.info("Token JWT generado para el usuario {} (expira a las {})", user.email(), expiration);
+        String token = buildJwtToken(userId, email, now, expiration);
+        log.info("Token JWT generado para el usuario {} (expira a las {})", email, expiration);
         return token;
     }
 
@@ -62,47 +119,70 @@ public class JwtUtils {
     /**
      * Construye y firma el token JWT utilizando los datos proporcionados, el instante de emisión y expiración.
      *
-     * @param user       Usuario autenticado (contiene id y email).
+     * @param userId     id del usuario autenticado.
+     * @param email      email del usuario autenticado.
      * @param issuedAt   Instante en el que se emite el token.
      * @param expiration Instante en el que expira el token.
      * @return Token JWT firmado.
      */
-    private String buildJwtToken(UserAuthResponse user, Instant issuedAt, Instant expiration) {
+    private String buildJwtToken(int userId, String email, Instant issuedAt, Instant expiration) {
+        KeyRing.SigningKey signingKey = keyRing.signingKey();
         return Jwts.builder()
                 .header()
                 .add("typ", "JWT")
+                .keyId(signingKey.kid())
                 .and()
-                .id(String.valueOf(user.id()))                // claim estándar: jti
-                .subject(user.email())                        // claim estándar: sub
+                .id(String.valueOf(userId))                   // claim estándar: jti
+                .subject(email)                               // claim estándar: sub
                 .issuedAt(Date.from(issuedAt))                // claim estándar: iat
                 .claim("iss", "ingesis.uniquindio.edu.co")    // claim estándar: iss
-                .claim("userId", user.id())                   // claim personalizado
+                .claim("userId", userId)                      // claim personalizado
                 .expiration(Date.from(expiration))            // claim estándar: exp
-                .signWith(KeyUtils.getPrivateKey(), Jwts.SIG.RS256)
+                .signWith(signingKey.privateKey(), signingKey.algorithm().jwsAlgorithm())
                 .compact();
     }
 
 
+    /**
+     * Verifica la firma y la expiración del token y devuelve sus claims.
+     *
+     * <p>Un token ya verificado se responde desde la caché (ver {@link JwtClaimsCacheConfig})
+     * sin repetir la verificación de la firma; solo se cachean tokens válidos. La duración de las
+     * verificaciones se publica en {@code jwt.verify} con percentiles p50 y p99.</p>
+     *
+     * @param token JWT a validar.
+     * @return Claims del token.
+     * @throws io.jsonwebtoken.JwtException si el token es inválido o expiró
+     */
     public Claims validateToken(String token) {
-        return Jwts.parser()
-                .verifyWith(KeyUtils.getPublicKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        String digest = digest(token);
+        Claims claims = claimsCache.getIfPresent(digest);
+        if (claims != null) {
+            return claims;
+        }
+        claims = verifyTimer.record(() -> parser.parseSignedClaims(token).getPayload());
+        claimsCache.put(digest, claims);
+        return claims;
     }
 
     /**
-     * Extrae todos los claims de un token JWT firmado con RSA.
+     * Extrae todos los claims de un token JWT firmado.
      *
      * @param token JWT a parsear.
      * @return Claims con toda la información (sub, exp, iat, custom claims como userId).
+     * @see #validateToken(String)
      */
     public Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(KeyUtils.getPublicKey())  // Usa la clave pública para verificar
-                .build()
-                .parseSignedClaims(token)             // Valida firma y expiración
-                .getPayload();                        // Devuelve los claims
+        return validateToken(token);
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HEX.formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible", e);
+        }
     }
 
 
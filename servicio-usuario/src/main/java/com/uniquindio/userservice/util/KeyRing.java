@@ -0,0 +1,315 @@
+package com.uniquindio.userservice.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uniquindio.userservice.config.JwtKeyProperties;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.security.GeneralSecurityException;
+import java.security.KeyException;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+/**
+ * Llaves de firma de los JWT, identificadas por {@code kid}.
+ *
+ * <p>Se leen del directorio {@code jwt.keys.directory}. Cada archivo {@code *private*.pem} forma
+ * un par con el archivo del mismo nombre cambiando {@code private} por {@code public} (por
+ * ejemplo {@code private-key.pem}/{@code public-key.pem} o
+ * {@code 2025-06-private-key.pem}/{@code 2025-06-public-key.pem}). Los demás {@code .pem} son
+ * llaves públicas que solo sirven para verificar, como la de una rotación anterior mientras sus
+ * tokens siguen vigentes.</p>
+ *
+ * <p>Las llaves pueden ser RSA, EC P-256 o Ed25519; el algoritmo de cada una se deduce de su tipo
+ * ({@link SigningAlgorithm}). Firma el par más reciente (por fecha de modificación de la llave
+ * privada) del algoritmo {@code jwt.keys.signing-algorithm}; las llaves de otros algoritmos siguen
+ * verificando, lo que permite migrar de algoritmo con una rotación normal. Para generar un par:</p>
+ *
+ * <pre>
+ * openssl genpkey -algorithm EC -pkeyopt ec_paramgen_curve:P-256 -out 2025-06-private-key.pem   # ES256
+ * openssl genpkey -algorithm ed25519 -out 2025-06-private-key.pem                              # EdDSA
+ * openssl pkey -in 2025-06-private-key.pem -pubout -out 2025-06-public-key.pem
+ * </pre>
+ *
+ * <p>El {@code kid} es el thumbprint RFC 7638 (SHA-256) de la llave pública: no depende del
+ * nombre del archivo y coincide en todas las réplicas.</p>
+ *
+ * <p>Rotación sin reinicio: se copia el par nuevo al directorio, que pasa a firmar, y cuando
+ * vencen los tokens emitidos con el anterior se borran sus archivos. Con {@code jwt.keys.watch}
+ * un {@link WatchService} detecta los cambios; si el directorio queda en un estado inválido
+ * (p. ej. un archivo a medio copiar) se conservan las llaves anteriores hasta el siguiente
+ * cambio.</p>
+ *
+ * @see JwtKeyProperties
+ */
+@Component
+@Slf4j
+public class KeyRing {
+
+    /**
+     * Llave con la que se firman los tokens nuevos.
+     */
+    public record SigningKey(String kid, SigningAlgorithm algorithm, PrivateKey privateKey, PublicKey publicKey) {
+    }
+
+    /**
+     * JWKS de {@code /.well-known/jwks.json}, serializado una vez por recarga.
+     */
+    public record PublishedKeys(byte[] json, String eTag) {
+    }
+
+    private record Snapshot(SigningKey signingKey, Map<String, PublicKey> verificationKeys,
+                            PublishedKeys publishedKeys) {
+    }
+
+    private final JwtKeyProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final List<Runnable> reloadListeners = new CopyOnWriteArrayList<>();
+    private volatile Snapshot snapshot;
+    private WatchService watchService;
+
+    public KeyRing(JwtKeyProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.directory = resolveDirectory(properties);
+        try {
+            this.snapshot = load();
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("No se pudieron cargar las llaves JWT de " + directory, e);
+        }
+        log.info("✅ Llaves JWT cargadas desde {}: firma {} con kid {}, {} llaves de verificación",
+                directory, snapshot.signingKey().algorithm().jwsName(), snapshot.signingKey().kid(),
+                snapshot.verificationKeys().size());
+
+        if (properties.watch()) {
+            startWatching();
+        }
+    }
+
+    /**
+     * @return la llave con la que se firman los tokens nuevos
+     */
+    public SigningKey signingKey() {
+        return snapshot.signingKey();
+    }
+
+    /**
+     * Llave pública para verificar un token.
+     *
+     * @param kid {@code kid} del encabezado del token; {@code null} para los tokens emitidos
+     *            antes de usar {@code kid}, que se verifican con la llave de firma actual
+     * @throws SignatureException si ninguna llave tiene ese {@code kid}
+     */
+    public PublicKey verificationKey(String kid) {
+        Snapshot current = snapshot;
+        if (kid == null) {
+            return current.signingKey().publicKey();
+        }
+        PublicKey key = current.verificationKeys().get(kid);
+        if (key == null) {
+            throw new SignatureException("Llave de firma desconocida (kid " + kid + ")");
+        }
+        return key;
+    }
+
+    /**
+     * @return las llaves públicas en formato JWKS, con su ETag
+     */
+    public PublishedKeys publishedKeys() {
+        return snapshot.publishedKeys();
+    }
+
+    /**
+     * Registra una acción que se ejecuta cada vez que cambian las llaves.
+     */
+    public void onReload(Runnable listener) {
+        reloadListeners.add(listener);
+    }
+
+    /**
+     * Vuelve a leer el directorio. Si falla, se conservan las llaves actuales.
+     *
+     * @return {@code true} si cambiaron las llaves
+     */
+    public synchronized boolean reload() {
+        Snapshot previous = snapshot;
+        Snapshot next;
+        try {
+            next = load();
+        } catch (IOException | GeneralSecurityException | RuntimeException e) {
+            log.warn("⚠️ No se pudieron recargar las llaves JWT de {}; se conservan las actuales: {}",
+                    directory, e.getMessage());
+            return false;
+        }
+        if (next.signingKey().kid().equals(previous.signingKey().kid())
+                && next.verificationKeys().keySet().equals(previous.verificationKeys().keySet())) {
+            return false;
+        }
+        snapshot = next;
+        log.info("🔑 Llaves JWT recargadas: firma con kid {}, verificación con {}",
+                next.signingKey().kid(), next.verificationKeys().keySet());
+        reloadListeners.forEach(Runnable::run);
+        return true;
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private Snapshot load() throws IOException, GeneralSecurityException {
+        List<Path> pemFiles;
+        try (Stream<Path> files = Files.list(directory)) {
+            pemFiles = files
+                    .filter(file -> file.getFileName().toString().endsWith(".pem") && Files.isRegularFile(file))
+                    .sorted()
+                    .toList();
+        }
+
+        Map<String, PublicJwk<?>> jwks = new LinkedHashMap<>();
+        SigningKey signingKey = null;
+        FileTime signingKeyModified = null;
+
+        for (Path file : pemFiles) {
+            String name = file.getFileName().toString();
+            if (!name.contains("private")) {
+                PublicJwk<?> jwk = toJwk(KeyUtils.readPublicKey(file));
+                jwks.putIfAbsent(jwk.getId(), jwk);
+                continue;
+            }
+
+            Path publicFile = file.resolveSibling(name.replace("private", "public"));
+            if (!Files.isRegularFile(publicFile)) {
+                log.warn("⚠️ Se ignora {}: no existe su llave pública {}", name, publicFile.getFileName());
+                continue;
+            }
+            PrivateKey privateKey = KeyUtils.readPrivateKey(file);
+            PublicJwk<?> jwk = toJwk(KeyUtils.readPublicKey(publicFile));
+            jwks.putIfAbsent(jwk.getId(), jwk);
+            SigningAlgorithm algorithm = SigningAlgorithm.of(jwk.toKey());
+            checkPair(name, algorithm, privateKey, jwk.toKey());
+            if (algorithm != properties.signingAlgorithm()) {
+                continue;
+            }
+
+            // Archivos en orden de nombre: ante la misma fecha gana el último
+            FileTime modified = Files.getLastModifiedTime(file);
+            if (signingKeyModified == null || modified.compareTo(signingKeyModified) >= 0) {
+                signingKey = new SigningKey(jwk.getId(), algorithm, privateKey, jwk.toKey());
+                signingKeyModified = modified;
+            }
+        }
+
+        if (signingKey == null) {
+            throw new KeyException("No hay ningún par de llaves " + properties.signingAlgorithm().jwsName()
+                    + " (*private*.pem con su *public*.pem) en " + directory);
+        }
+
+        Map<String, PublicKey> verificationKeys = new LinkedHashMap<>();
+        jwks.forEach((kid, jwk) -> verificationKeys.put(kid, jwk.toKey()));
+
+        byte[] json = objectMapper.writeValueAsBytes(Map.of("keys", List.copyOf(jwks.values())));
+        PublishedKeys publishedKeys = new PublishedKeys(json, ResourceETags.of(json));
+
+        return new Snapshot(signingKey, Map.copyOf(verificationKeys), publishedKeys);
+    }
+
+    private static PublicJwk<?> toJwk(PublicKey publicKey) throws KeyException {
+        return Jwks.builder()
+                .key(publicKey)
+                .idFromThumbprint()
+                .publicKeyUse("sig")
+                .algorithm(SigningAlgorithm.of(publicKey).jwsName())
+                .build();
+    }
+
+    /**
+     * Firma y verifica un mensaje de prueba para no publicar un par cuyas llaves no corresponden.
+     */
+    private static void checkPair(String name, SigningAlgorithm algorithm, PrivateKey privateKey,
+                                  PublicKey publicKey) throws GeneralSecurityException {
+        byte[] probe = name.getBytes(StandardCharsets.UTF_8);
+        Signature signer = Signature.getInstance(algorithm.jcaName());
+        signer.initSign(privateKey);
+        signer.update(probe);
+        byte[] signature = signer.sign();
+
+        Signature verifier = Signature.getInstance(algorithm.jcaName());
+        verifier.initVerify(publicKey);
+        verifier.update(probe);
+        if (!verifier.verify(signature)) {
+            throw new KeyException("La llave privada " + name + " no corresponde a su llave pública");
+        }
+    }
+
+    private void startWatching() {
+        try {
+            watchService = directory.getFileSystem().newWatchService();
+            directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+        } catch (IOException e) {
+            log.warn("⚠️ No se puede vigilar {}; las llaves solo se cargan al iniciar: {}", directory, e.getMessage());
+            return;
+        }
+        Thread.ofPlatform().name("jwt-key-watcher").daemon().start(this::watch);
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                // Agrupa los eventos de una misma rotación (varias copias o renombrados) en una recarga
+                Thread.sleep(properties.reloadDelay());
+                do {
+                    key.pollEvents();
+                    key.reset();
+                } while ((key = watchService.poll()) != null);
+                reload();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            log.debug("Vigilancia de llaves JWT detenida");
+        }
+    }
+
+    private static Path resolveDirectory(JwtKeyProperties properties) {
+        if (properties.directory() != null) {
+            return properties.directory().toAbsolutePath();
+        }
+        // Compatibilidad con la configuración anterior: el directorio que contiene las llaves
+        String legacyPath = System.getenv("PRIVATE_KEY_PATH");
+        if (legacyPath == null) {
+            legacyPath = System.getenv("PUBLIC_KEY_PATH");
+        }
+        if (legacyPath == null) {
+            throw new IllegalStateException(
+                    "Configure jwt.keys.directory (JWT_KEYS_DIRECTORY) con el directorio de las llaves JWT");
+        }
+        return Path.of(legacyPath).toAbsolutePath().getParent();
+    }
+}
@@ -0,0 +1,195 @@
+package com.uniquindio.userservice.util;
+
+import com.uniquindio.userservice.client.UserClient;
+import com.uniquindio.userservice.config.EmailIndexProperties;
+import com.uniquindio.userservice.dto.UserCursorPage;
+import com.uniquindio.userservice.dto.UserResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Índice en memoria de los emails registrados, basado en un {@link BloomFilter}.
+ *
+ * <p>Es solo una comprobación previa del registro: si el email puede existir se consulta el
+ * servicio de datos antes de calcular el hash, para rechazar duplicados sin gastar BCrypt. No
+ * se usa para responder "no encontrado" en login ni en la solicitud de OTP: entre
+ * reconstrucciones no conoce los usuarios creados por otras instancias ni directamente en el
+ * servicio de datos. Si indica que el email no existe y sí existe, el servicio de datos rechaza
+ * el registro con 409 y el único costo es el hash calculado.</p>
+ *
+ * <p><strong>Ciclo de vida:</strong></p>
+ * <ul>
+ *   <li>Al arrancar la aplicación se recorre la lista de usuarios por cursor para llenar el filtro.
+ *       Hasta que termina, {@link #mightExist(String)} responde siempre {@code true}.</li>
+ *   <li>Los registros y cambios de email hechos por esta instancia se agregan con {@link #add(String)}.</li>
+ *   <li>El filtro se reconstruye cada {@code email-index.rebuild-interval}: así se eliminan los emails
+ *       borrados o cambiados y se incorporan los registrados por otras instancias. La reconstrucción
+ *       llena un filtro nuevo y lo reemplaza al terminar; las altas que ocurren mientras tanto se
+ *       agregan a ambos.</li>
+ * </ul>
+ *
+ * <p>Los emails se normalizan (sin espacios y en minúsculas) antes de consultarlos: un falso
+ * positivo solo cuesta la consulta al servicio.</p>
+ *
+ * <p><strong>Métricas:</strong> {@code email.index.false.positive.rate} (estimada con el llenado
+ * actual), {@code email.index.size}, {@code email.index.ready} y {@code email.index.lookups}
+ * con {@code result=absent|maybe|not_ready}.</p>
+ *
+ * @see EmailIndexProperties
+ */
+@Component
+@Slf4j
+public class KnownEmailIndex {
+
+    private final UserClient userClient;
+    private final EmailIndexProperties properties;
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private volatile BloomFilter current;
+    private volatile BloomFilter building;
+
+    private final Counter absentLookups;
+    private final Counter maybeLookups;
+    private final Counter notReadyLookups;
+
+    public KnownEmailIndex(UserClient userClient, EmailIndexProperties properties, MeterRegistry meterRegistry) {
+        this.userClient = userClient;
+        this.properties = properties;
+
+        Gauge.builder("email.index.false.positive.rate", this,
+                        index -> index.current != null ? index.current.expectedFalsePositiveRate() : Double.NaN)
+                .description("Probabilidad estimada de falso positivo del índice de emails")
+                .register(meterRegistry);
+        Gauge.builder("email.index.size", this,
+                        index -> index.current != null ? index.current.approximateElementCount() : 0)
+                .description("Número aproximado de emails en el índice")
+                .register(meterRegistry);
+        Gauge.builder("email.index.ready", this, index -> index.current != null ? 1 : 0)
+                .description("1 si el índice de emails ya fue cargado")
+                .register(meterRegistry);
+
+        this.absentLookups = lookupCounter(meterRegistry, "absent");
+        this.maybeLookups = lookupCounter(meterRegistry, "maybe");
+        this.notReadyLookups = lookupCounter(meterRegistry, "not_ready");
+    }
+
+    /**
+     * Indica si el email puede estar registrado.
+     *
+     * @return {@code false} solo si el email con certeza no está registrado
+     */
+    public boolean mightExist(String email) {
+        BloomFilter filter = current;
+        if (!properties.enabled() || filter == null) {
+            notReadyLookups.increment();
+            return true;
+        }
+        if (filter.mightContain(normalize(email))) {
+            maybeLookups.increment();
+            return true;
+        }
+        absentLookups.increment();
+        return false;
+    }
+
+    /**
+     * Agrega un email registrado (o el nuevo email de un usuario) al índice.
+     */
+    public void add(String email) {
+        if (email == null) {
+            return;
+        }
+        String normalized = normalize(email);
+        BloomFilter filter = current;
+        if (filter != null) {
+            filter.add(normalized);
+        }
+        BloomFilter next = building;
+        if (next != null) {
+            next.add(normalized);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${email-index.rebuild-interval:30m}",
+            initialDelayString = "${email-index.rebuild-interval:30m}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * Reconstruye el filtro recorriendo todas las páginas de usuarios por cursor, de modo que
+     * un usuario eliminado durante el recorrido no haga saltar a otro. La operación es
+     * asíncrona; si ya hay una reconstrucción en curso no se inicia otra.
+     */
+    public void rebuild() {
+        if (!properties.enabled() || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        long start = System.nanoTime();
+        int pageSize = Math.min(Math.max(1, properties.pageSize()), 100);
+
+        BloomFilter previous = current;
+        long expected = Math.max(properties.expectedEmails(),
+                previous != null ? previous.approximateElementCount() * 2 : 0);
+        BloomFilter next = BloomFilter.create(expected, properties.falsePositiveRate());
+        building = next;
+
+        userClient.getUsersAfterReactive(0, pageSize)
+                .expand(page -> page.nextCursor() != null
+                        ? userClient.getUsersAfterReactive(page.nextCursor(), pageSize)
+                        : Mono.empty())
+                .doOnNext(page -> addAll(next, page))
+                .then(Mono.just(next))
+                .doFinally(signal -> {
+                    building = null;
+                    rebuilding.set(false);
+                })
+                .subscribe(
+                        loaded -> {
+                            current = loaded;
+                            log.info("Índice de emails cargado: {} emails en {} ms (falsos positivos estimados: {})",
+                                    loaded.approximateElementCount(), (System.nanoTime() - start) / 1_000_000,
+                                    String.format(Locale.ROOT, "%.5f", loaded.expectedFalsePositiveRate()));
+                        },
+                        error -> log.warn("No se pudo cargar el índice de emails, se reintentará en la próxima reconstrucción: {}",
+                                error.getMessage())
+                );
+    }
+
+    private void addAll(BloomFilter filter, UserCursorPage page) {
+        if (page.users() == null) {
+            return;
+        }
+        for (UserResponse user : page.users()) {
+            if (user.email() != null) {
+                filter.add(normalize(user.email()));
+            }
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("email.index.lookups")
+                .description("Consultas al índice de emails según su resultado")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
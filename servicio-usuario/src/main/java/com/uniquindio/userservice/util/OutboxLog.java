@@ -0,0 +1,457 @@
+package com.uniquindio.userservice.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.OpenOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileAttribute;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Log local de solo escritura al final, dividido en segmentos mapeados en memoria, usado como
+ * outbox de los eventos de usuario antes de enviarlos a Kafka.
+ *
+ * <p><strong>Formato:</strong> cada segmento es un archivo {@code <offset base>.log} de tamaño
+ * fijo. Un registro ocupa {@code [longitud int][CRC32C int][datos]}; una longitud {@code 0}
+ * marca el final de lo escrito y {@code -1} el cierre del segmento. Los offsets son posiciones
+ * en bytes dentro del log completo: el siguiente segmento empieza en
+ * {@code base + tamaño del segmento}. El archivo {@code committed.offset} guarda el offset hasta
+ * el que el lector confirmó el envío, junto con su complemento para detectar escrituras a medias.</p>
+ *
+ * <p><strong>Recuperación:</strong> al abrir se recorre el último segmento validando el CRC de
+ * cada registro. Un registro incompleto (caída a mitad de una escritura) y todo lo que le sigue
+ * se descartan; lo anterior, desde el offset confirmado, se vuelve a entregar. Los segmentos
+ * cuyo contenido ya se confirmó por completo se borran.</p>
+ *
+ * <p><strong>Durabilidad:</strong> los datos quedan en la caché de páginas del sistema operativo
+ * en cuanto {@link #append(byte[])} retorna, así que sobreviven a la caída del proceso. Para
+ * sobrevivir a la caída de la máquina hay que forzar cada escritura a disco
+ * ({@code forceOnAppend}), lo que cuesta un {@code msync} por evento.</p>
+ *
+ * <p><strong>Permisos:</strong> los registros se guardan sin cifrar. En sistemas POSIX el
+ * directorio queda con permisos {@code rwx------} y los archivos se crean con {@code rw-------},
+ * así que solo el usuario del proceso puede leerlos.</p>
+ *
+ * <p>Un directorio lo abre un solo {@code OutboxLog} a la vez (lock sobre {@code outbox.lock}).
+ * Admite varios escritores concurrentes y un único lector, que llama a {@link #read} y
+ * {@link #commit} desde el mismo hilo.</p>
+ */
+@Slf4j
+public final class OutboxLog implements Closeable {
+
+    /** Longitud y CRC de cada registro. */
+    static final int HEADER_SIZE = 8;
+    private static final int END_OF_SEGMENT = -1;
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String COMMIT_FILE = "committed.offset";
+    private static final String LOCK_FILE = "outbox.lock";
+    private static final Set<OpenOption> READ_WRITE =
+            Set.of(StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    private static final Set<PosixFilePermission> OWNER_ONLY_DIRECTORY = PosixFilePermissions.fromString("rwx------");
+    private static final Set<PosixFilePermission> OWNER_ONLY_FILE = PosixFilePermissions.fromString("rw-------");
+
+    /**
+     * Registro leído del log.
+     *
+     * @param offset     posición del registro
+     * @param nextOffset posición siguiente, la que se confirma con {@link #commit(long)}
+     * @param data       contenido del registro
+     */
+    public record Entry(long offset, long nextOffset, byte[] data) {
+    }
+
+    private record Segment(long base, int capacity, FileChannel channel, MappedByteBuffer buffer, Path file) {
+
+        long end() {
+            return base + capacity;
+        }
+    }
+
+    private final Path directory;
+    private final int segmentSize;
+    private final boolean forceOnAppend;
+    private final ConcurrentSkipListMap<Long, Segment> segments = new ConcurrentSkipListMap<>();
+    private final FileChannel lockChannel;
+    private final FileChannel commitChannel;
+    private final MappedByteBuffer commitBuffer;
+    private final Object commitLock = new Object();
+
+    private Segment active; // protegido por this
+    private boolean closed; // protegido por this
+    private volatile long endOffset;
+    private volatile long committedOffset;
+
+    private OutboxLog(Path directory, int segmentSize, boolean forceOnAppend, FileChannel lockChannel,
+                      FileChannel commitChannel, MappedByteBuffer commitBuffer) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.forceOnAppend = forceOnAppend;
+        this.lockChannel = lockChannel;
+        this.commitChannel = commitChannel;
+        this.commitBuffer = commitBuffer;
+    }
+
+    /**
+     * Abre el log de {@code directory}, creándolo si no existe, y recupera lo pendiente de envío.
+     *
+     * <p>Toma un lock exclusivo sobre {@code outbox.lock} que se mantiene hasta {@link #close()}:
+     * dos procesos escribiendo el mismo segmento mezclarían sus registros y confirmarían los
+     * offsets del otro, sin forma de recuperarlo.</p>
+     *
+     * @param segmentSize   tamaño en bytes de los segmentos nuevos
+     * @param forceOnAppend si cada registro se fuerza a disco antes de retornar
+     * @throws IllegalStateException si otro proceso (u otra instancia en este) ya tiene abierto el directorio
+     */
+    public static OutboxLog open(Path directory, int segmentSize, boolean forceOnAppend) throws IOException {
+        if (segmentSize < 64) {
+            throw new IllegalArgumentException("El tamaño de segmento debe ser de al menos 64 bytes: " + segmentSize);
+        }
+        if (isPosix(directory)) {
+            Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(OWNER_ONLY_DIRECTORY));
+            // También si el directorio ya existía, por ejemplo un volumen creado por Docker
+            Files.setPosixFilePermissions(directory, OWNER_ONLY_DIRECTORY);
+        } else {
+            Files.createDirectories(directory);
+        }
+        FileChannel lockChannel = lock(directory);
+        FileChannel commitChannel = null;
+        OutboxLog outbox;
+        try {
+            commitChannel = openFile(directory.resolve(COMMIT_FILE));
+            outbox = new OutboxLog(directory, segmentSize, forceOnAppend, lockChannel, commitChannel,
+                    commitChannel.map(FileChannel.MapMode.READ_WRITE, 0, 16));
+        } catch (IOException | RuntimeException e) {
+            if (commitChannel != null) {
+                commitChannel.close();
+            }
+            lockChannel.close();
+            throw e;
+        }
+        try {
+            outbox.recover();
+        } catch (IOException | RuntimeException e) {
+            outbox.close();
+            throw e;
+        }
+        return outbox;
+    }
+
+    /**
+     * Agrega un registro al final del log.
+     *
+     * @return offset del registro
+     * @throws IllegalArgumentException si el registro está vacío o no cabe en un segmento
+     * @throws IllegalStateException    si el log está cerrado
+     */
+    public synchronized long append(byte[] data) throws IOException {
+        if (closed) {
+            throw new IllegalStateException("El outbox está cerrado");
+        }
+        // Una longitud 0 marca el final de lo escrito: un registro vacío escondería los siguientes
+        if (data.length == 0) {
+            throw new IllegalArgumentException("El registro está vacío");
+        }
+        int frameSize = HEADER_SIZE + data.length;
+        // Siempre quedan 4 bytes libres para la marca de cierre del segmento
+        if (frameSize + 4 > segmentSize) {
+            throw new IllegalArgumentException("Registro de " + data.length + " bytes demasiado grande para segmentos de "
+                    + segmentSize + " bytes");
+        }
+        int position = (int) (endOffset - active.base());
+        if (position + frameSize + 4 > active.capacity()) {
+            roll(position);
+            position = 0;
+        }
+        long offset = active.base() + position;
+
+        CRC32C crc = new CRC32C();
+        crc.update(data);
+        MappedByteBuffer buffer = active.buffer();
+        buffer.put(position + HEADER_SIZE, data);
+        buffer.putInt(position + 4, (int) crc.getValue());
+        buffer.putInt(position, data.length);
+        if (forceOnAppend) {
+            buffer.force(position, frameSize);
+        }
+        endOffset = offset + frameSize;
+        return offset;
+    }
+
+    /**
+     * Lee hasta {@code maxEntries} registros desde {@code fromOffset}. Un registro con CRC
+     * inválido en un segmento ya cerrado se reporta y se salta el resto de ese segmento.
+     */
+    public List<Entry> read(long fromOffset, int maxEntries) {
+        long end = endOffset;
+        long offset = Math.max(fromOffset, committedOffset);
+        List<Entry> entries = new ArrayList<>(Math.min(maxEntries, 1024));
+        while (entries.size() < maxEntries && offset < end) {
+            Map.Entry<Long, Segment> floor = segments.floorEntry(offset);
+            if (floor == null) {
+                offset = segments.firstKey();
+                continue;
+            }
+            Segment segment = floor.getValue();
+            int position = (int) (offset - segment.base());
+            if (position + 4 > segment.capacity()) {
+                offset = segment.end();
+                continue;
+            }
+            int length = segment.buffer().getInt(position);
+            if (length == END_OF_SEGMENT) {
+                offset = segment.end();
+                continue;
+            }
+            byte[] data = length > 0 && position + HEADER_SIZE + length <= segment.capacity()
+                    ? new byte[length] : null;
+            if (data != null) {
+                segment.buffer().get(position + HEADER_SIZE, data);
+            }
+            if (data == null || !crcMatches(segment.buffer().getInt(position + 4), data)) {
+                if (segment.end() > end) {
+                    // No debería ocurrir: el segmento activo se valida al abrir y solo lo escribe este proceso
+                    throw new IllegalStateException("Registro corrupto en el offset " + offset + " del segmento activo");
+                }
+                log.error("❌ Registro corrupto en el offset {} del outbox; se descarta el resto del segmento {}",
+                        offset, segment.file());
+                offset = segment.end();
+                continue;
+            }
+            entries.add(new Entry(offset, offset + HEADER_SIZE + length, data));
+            offset += HEADER_SIZE + length;
+        }
+        return entries;
+    }
+
+    /**
+     * Confirma que todo lo anterior a {@code offset} ya se entregó y borra los segmentos que
+     * quedaron confirmados por completo.
+     */
+    public void commit(long offset) throws IOException {
+        synchronized (commitLock) {
+            if (offset <= committedOffset) {
+                return;
+            }
+            if (offset > endOffset) {
+                throw new IllegalArgumentException("Offset " + offset + " posterior al final del outbox " + endOffset);
+            }
+            commitBuffer.putLong(0, offset);
+            commitBuffer.putLong(8, ~offset);
+            commitBuffer.force();
+            committedOffset = offset;
+
+            // El segmento activo nunca se borra: siempre termina después de endOffset
+            for (Segment segment : segments.headMap(offset, true).values()) {
+                if (segment.end() <= offset) {
+                    segments.remove(segment.base());
+                    segment.channel().close();
+                    Files.deleteIfExists(segment.file());
+                }
+            }
+        }
+    }
+
+    /**
+     * Offset hasta el que se confirmó el envío; la próxima lectura empieza aquí.
+     */
+    public long committedOffset() {
+        return committedOffset;
+    }
+
+    /**
+     * Offset siguiente al último registro escrito.
+     */
+    public long endOffset() {
+        return endOffset;
+    }
+
+    /**
+     * Bytes escritos que aún no se confirman (incluye encabezados y el espacio sin usar al final
+     * de los segmentos cerrados).
+     */
+    public long backlogBytes() {
+        return endOffset - committedOffset;
+    }
+
+    public int segmentCount() {
+        return segments.size();
+    }
+
+    public Path directory() {
+        return directory;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        for (Segment segment : segments.values()) {
+            segment.buffer().force();
+            segment.channel().close();
+        }
+        commitChannel.close();
+        // Cerrar el canal libera el lock
+        lockChannel.close();
+    }
+
+    private void recover() throws IOException {
+        long storedCommit = commitBuffer.getLong(0);
+        long storedComplement = commitBuffer.getLong(8);
+        boolean commitValid = storedComplement == ~storedCommit && storedCommit >= 0;
+        long committed = commitValid ? storedCommit : 0;
+        // Un archivo recién creado está en ceros: no hay nada confirmado, pero no está dañado
+        if (!commitValid && (storedCommit != 0 || storedComplement != 0)) {
+            log.warn("⚠️ Offset confirmado del outbox ilegible en {}; se reenvía todo lo que quede en el log", directory);
+        }
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(directory)) {
+            files = listing.filter(file -> file.getFileName().toString().endsWith(SEGMENT_SUFFIX)).sorted().toList();
+        }
+        for (Path file : files) {
+            String name = file.getFileName().toString();
+            long base = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+            long size = Files.size(file);
+            if (size > Integer.MAX_VALUE || size < 4 || base + size <= committed) {
+                Files.delete(file);
+                continue;
+            }
+            segments.put(base, map(file, base, (int) size));
+        }
+
+        if (segments.isEmpty()) {
+            active = createSegment(committed);
+            endOffset = committed;
+        } else {
+            if (committed < segments.firstKey()) {
+                committed = segments.firstKey();
+            }
+            active = segments.lastEntry().getValue();
+            int position = scan(active);
+            if (position + 4 <= active.capacity() && active.buffer().getInt(position) == END_OF_SEGMENT) {
+                // Caída después de cerrar el segmento y antes de crear el siguiente
+                active = createSegment(active.end());
+                position = 0;
+            }
+            endOffset = active.base() + position;
+        }
+        committedOffset = Math.min(committed, endOffset);
+
+        if (endOffset > committedOffset) {
+            log.info("📬 Outbox recuperado en {}: {} bytes pendientes de envío desde el offset {}",
+                    directory, endOffset - committedOffset, committedOffset);
+        }
+    }
+
+    /**
+     * Recorre un segmento y retorna la posición del primer registro ausente o inválido. Si el
+     * registro es inválido se borra desde ahí hasta el final, para que los registros nuevos no
+     * queden seguidos de restos de escrituras incompletas.
+     */
+    private int scan(Segment segment) {
+        MappedByteBuffer buffer = segment.buffer();
+        int position = 0;
+        while (position + 4 <= segment.capacity()) {
+            int length = buffer.getInt(position);
+            if (length == 0 || length == END_OF_SEGMENT) {
+                return position;
+            }
+            if (length < 0 || position + HEADER_SIZE + length + 4 > segment.capacity()) {
+                break;
+            }
+            byte[] data = new byte[length];
+            buffer.get(position + HEADER_SIZE, data);
+            if (!crcMatches(buffer.getInt(position + 4), data)) {
+                break;
+            }
+            position += HEADER_SIZE + length;
+        }
+        if (position + 4 > segment.capacity()) {
+            return position;
+        }
+        log.warn("⚠️ Registro incompleto en el offset {} del outbox; se descarta el resto del segmento {}",
+                segment.base() + position, segment.file());
+        for (int i = position; i < segment.capacity(); i++) {
+            buffer.put(i, (byte) 0);
+        }
+        buffer.force();
+        return position;
+    }
+
+    private void roll(int position) throws IOException {
+        Segment previous = active;
+        previous.buffer().putInt(position, END_OF_SEGMENT);
+        if (forceOnAppend) {
+            previous.buffer().force();
+        }
+        active = createSegment(previous.end());
+        endOffset = active.base();
+    }
+
+    private Segment createSegment(long base) throws IOException {
+        Segment segment = map(directory.resolve(String.format("%020d%s", base, SEGMENT_SUFFIX)), base, segmentSize);
+        segments.put(base, segment);
+        return segment;
+    }
+
+    private static Segment map(Path file, long base, int capacity) throws IOException {
+        FileChannel channel = openFile(file);
+        try {
+            return new Segment(base, capacity, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity), file);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static FileChannel lock(Path directory) throws IOException {
+        FileChannel channel = openFile(directory.resolve(LOCK_FILE));
+        boolean locked;
+        try {
+            locked = channel.tryLock() != null;
+        } catch (OverlappingFileLockException e) {
+            locked = false;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        if (!locked) {
+            channel.close();
+            throw new IllegalStateException("El outbox de " + directory + " ya está abierto por otro proceso");
+        }
+        return channel;
+    }
+
+    private static FileChannel openFile(Path file) throws IOException {
+        return isPosix(file)
+                ? FileChannel.open(file, READ_WRITE, PosixFilePermissions.asFileAttribute(OWNER_ONLY_FILE))
+                : FileChannel.open(file, READ_WRITE);
+    }
+
+    private static boolean isPosix(Path path) {
+        return path.getFileSystem().supportedFileAttributeViews().contains("posix");
+    }
+
+    private static boolean crcMatches(int expected, byte[] data) {
+        CRC32C crc = new CRC32C();
+        crc.update(data);
+        return (int) crc.getValue() == expected;
+    }
+}
@@ -0,0 +1,113 @@
+package com.uniquindio.userservice.util;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * Herramienta de línea de comandos que elige el costo de BCrypt y de Argon2id para que un hash
+ * tarde a lo sumo un tiempo objetivo en la máquina donde se ejecuta.
+ *
+ * <p>Debe ejecutarse en el mismo hardware (o contenedor, con los mismos límites de CPU) que
+ * atiende los logins, sin carga. Con el jar del servicio:</p>
+ * <pre>
+ * java -cp user-service.jar \
+ *      -Dloader.main=com.uniquindio.userservice.util.PasswordHashCalibrator \
+ *      org.springframework.boot.loader.launch.PropertiesLauncher [objetivo-ms]
+ * </pre>
+ *
+ * <p>El objetivo por defecto es 250 ms. La salida son las propiedades
+ * {@code password-hashing.*} a copiar en la configuración, junto con los logins por segundo
+ * que soporta el pool con esos valores.</p>
+ */
+public final class PasswordHashCalibrator {
+
+    private static final long DEFAULT_TARGET_MS = 250;
+    private static final String SAMPLE_PASSWORD = "Calibraci0n-de-hash";
+    private static final int SAMPLES = 5;
+
+    private static final int MIN_BCRYPT_STRENGTH = 4;
+    private static final int MAX_BCRYPT_STRENGTH = 20;
+    private static final int MIN_ARGON2_MEMORY = 8 * 1024;
+    private static final int MAX_ARGON2_MEMORY = 1024 * 1024;
+    private static final int MAX_ARGON2_ITERATIONS = 10;
+    private static final int ARGON2_PARALLELISM = 1;
+
+    private PasswordHashCalibrator() {
+    }
+
+    public static void main(String[] args) {
+        long targetMs = args.length > 0 ? Long.parseLong(args[0]) : DEFAULT_TARGET_MS;
+        int cores = Runtime.getRuntime().availableProcessors();
+        System.out.printf("Objetivo: %d ms por hash, %d núcleos%n%n", targetMs, cores);
+
+        System.out.println("BCrypt");
+        int strength = MIN_BCRYPT_STRENGTH;
+        double strengthMs = measure(PasswordUtils.bcrypt(strength));
+        System.out.printf("  costo %2d: %8.1f ms%n", strength, strengthMs);
+        // Cada punto de costo duplica el tiempo: se sube mientras el siguiente no pase del objetivo
+        for (int candidate = strength + 1; candidate <= MAX_BCRYPT_STRENGTH; candidate++) {
+            double candidateMs = measure(PasswordUtils.bcrypt(candidate));
+            System.out.printf("  costo %2d: %8.1f ms%n", candidate, candidateMs);
+            if (candidateMs > targetMs) {
+                break;
+            }
+            strength = candidate;
+            strengthMs = candidateMs;
+        }
+
+        System.out.println();
+        System.out.println("Argon2id (paralelismo " + ARGON2_PARALLELISM + ")");
+        // Primero la memoria, que es lo que encarece los ataques con GPU; luego las iteraciones
+        int memory = MIN_ARGON2_MEMORY;
+        int iterations = 2;
+        double argon2Ms = measureArgon2(memory, iterations);
+        for (int candidate = memory * 2; candidate <= MAX_ARGON2_MEMORY; candidate *= 2) {
+            double candidateMs = measureArgon2(candidate, iterations);
+            if (candidateMs > targetMs) {
+                break;
+            }
+            memory = candidate;
+            argon2Ms = candidateMs;
+        }
+        for (int candidate = iterations + 1; candidate <= MAX_ARGON2_ITERATIONS; candidate++) {
+            double candidateMs = measureArgon2(memory, candidate);
+            if (candidateMs > targetMs) {
+                break;
+            }
+            iterations = candidate;
+            argon2Ms = candidateMs;
+        }
+
+        System.out.println();
+        System.out.println("# Propiedades sugeridas");
+        System.out.printf("password-hashing.bcrypt-strength=%d%n", strength);
+        System.out.printf("password-hashing.argon2-memory=%d%n", memory);
+        System.out.printf("password-hashing.argon2-iterations=%d%n", iterations);
+        System.out.printf("password-hashing.argon2-parallelism=%d%n", ARGON2_PARALLELISM);
+        System.out.println();
+        System.out.printf("# Con password-hashing.threads=%d: ~%.0f logins/s con BCrypt, ~%.0f logins/s con Argon2id%n",
+                cores, cores * 1000 / strengthMs, cores * 1000 / argon2Ms);
+    }
+
+    private static double measureArgon2(int memory, int iterations) {
+        double ms = measure(PasswordUtils.argon2(memory, iterations, ARGON2_PARALLELISM));
+        System.out.printf("  m=%7d KiB t=%2d: %8.1f ms%n", memory, iterations, ms);
+        return ms;
+    }
+
+    /**
+     * @return la mediana, en milisegundos, de varios hashes tras uno de calentamiento
+     */
+    private static double measure(PasswordEncoder encoder) {
+        encoder.encode(SAMPLE_PASSWORD);
+        long[] nanos = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos[SAMPLES / 2] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,72 @@
+package com.uniquindio.userservice.util;
+
+import com.uniquindio.userservice.client.UserClient;
+import com.uniquindio.userservice.config.PasswordHashingProperties;
+import com.uniquindio.userservice.dto.UserAuthResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Migra los hashes de contraseña al algoritmo y costo configurados a medida que los usuarios
+ * inician sesión, el único momento en que se conoce la contraseña en claro.
+ *
+ * <p>La migración no retrasa el login: el hash nuevo se calcula en el pool de hashing y se
+ * guarda con {@link UserClient#upgradePasswordHashReactive(int, String, String)} sin esperar
+ * el resultado. Si el pool está saturado o el servicio falla, el hash viejo sigue siendo válido
+ * y la migración se reintenta en el siguiente login. Los resultados se cuentan en
+ * {@code password.hashing.upgrades} con la etiqueta {@code result}.</p>
+ */
+@Component
+@Slf4j
+public class PasswordHashUpgrader {
+
+    private final PasswordUtils passwordUtils;
+    private final UserClient userClient;
+    private final boolean enabled;
+    private final Counter upgraded;
+    private final Counter conflicts;
+    private final Counter failures;
+
+    public PasswordHashUpgrader(PasswordUtils passwordUtils, UserClient userClient,
+                                PasswordHashingProperties properties, MeterRegistry meterRegistry) {
+        this.passwordUtils = passwordUtils;
+        this.userClient = userClient;
+        this.enabled = properties.upgradeOnLogin();
+        this.upgraded = upgrades(meterRegistry, "upgraded");
+        this.conflicts = upgrades(meterRegistry, "conflict");
+        this.failures = upgrades(meterRegistry, "failed");
+    }
+
+    private static Counter upgrades(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("password.hashing.upgrades")
+                .description("Hashes de contraseña migrados a la configuración actual tras un login")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Si el hash del usuario está desactualizado, programa su reemplazo. Debe llamarse solo
+     * después de verificar {@code rawPassword} contra {@code user.password()}.
+     */
+    public void upgradeIfNeeded(UserAuthResponse user, String rawPassword) {
+        if (!enabled || !passwordUtils.needsUpgrade(user.password())) {
+            return;
+        }
+        passwordUtils.encodeAsync(rawPassword)
+                .thenCompose(newHash -> userClient.upgradePasswordHashReactive(user.id(), user.password(), newHash).toFuture())
+                .whenComplete((replaced, error) -> {
+                    if (error != null) {
+                        failures.increment();
+                        log.warn("⚠️ No se pudo migrar el hash de contraseña del usuario {}: {}", user.id(), error.getMessage());
+                    } else if (replaced) {
+                        upgraded.increment();
+                        log.info("🔑 Hash de contraseña migrado para el usuario {}", user.id());
+                    } else {
+                        conflicts.increment();
+                        log.debug("Hash de contraseña del usuario {} cambiado por otra petición, no se migra", user.id());
+                    }
+                });
+    }
+}
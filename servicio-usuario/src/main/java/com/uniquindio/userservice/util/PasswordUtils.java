@@ -1,31 +1,163 @@
 package com.uniquindio.userservice.util;
 
+import com.uniquindio.userservice.config.PasswordHashingProperties;
 import com.uniquindio.userservice.dto.PasswordRecoveryRequest;
 import com.uniquindio.userservice.dto.UserRegistration;
+import com.uniquindio.userservice.exception.PasswordHashingUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Utilidad para encriptar y verificar contraseñas.
+ *
+ * <p>Cada hash nuevo se guarda con el prefijo de su algoritmo ({@code {bcrypt}} o
+ * {@code {argon2}}, ver {@link PasswordHashingProperties.Algorithm}); el costo va dentro del
+ * propio hash. Los hashes BCrypt sin prefijo, anteriores a este formato, se siguen verificando
+ * como BCrypt. {@link #needsUpgrade(String)} indica si un hash usa otro algoritmo o un costo
+ * menor que el configurado.</p>
+ *
+ * <p>El hashing es intensivo en CPU, por lo que se ejecuta en el
+ * {@code passwordHashingExecutor}: un pool de tamaño fijo con cola acotada, de modo que los
+ * hashes nunca ocupan más núcleos que los configurados. Si la cola está llena el hash no se
+ * encola y se lanza {@link PasswordHashingUnavailableException} (503 con {@code Retry-After});
+ * los rechazos se cuentan en {@code password.hashing.rejected}.</p>
+ *
+ * @see com.uniquindio.userservice.config.ExecutionConfig
+ */
+@Component
+@Slf4j
 public class PasswordUtils {
 
-    private static final PasswordEncoder passwordEncoder = new BCryptPasswordEncoder();
+    private static final int ARGON2_SALT_LENGTH = 16;
+    private static final int ARGON2_HASH_LENGTH = 32;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService hashingExecutor;
+    private final Duration retryAfter;
+    private final Counter rejected;
+
+    public PasswordUtils(@Qualifier("passwordHashingExecutor") ExecutorService hashingExecutor,
+                         PasswordHashingProperties properties,
+                         MeterRegistry meterRegistry) {
+        this.passwordEncoder = createEncoder(properties);
+        this.hashingExecutor = hashingExecutor;
+        this.retryAfter = properties.retryAfter();
+        this.rejected = Counter.builder("password.hashing.rejected")
+                .description("Hashes de contraseña rechazados por tener la cola del pool llena")
+                .register(meterRegistry);
+        log.info("🔑 Hashing de contraseñas con {} ({} hilos, cola de {})",
+                properties.algorithm().id(), properties.effectiveThreads(), properties.queueCapacity());
+    }
+
+    /**
+     * Crea el encoder que escribe hashes con el algoritmo y costo configurados y verifica
+     * hashes de cualquier algoritmo soportado, con o sin prefijo.
+     */
+    public static PasswordEncoder createEncoder(PasswordHashingProperties properties) {
+        String idForEncode = properties.algorithm().id();
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idForEncode, Map.of(
+                PasswordHashingProperties.Algorithm.BCRYPT.id(), bcrypt(properties.bcryptStrength()),
+                PasswordHashingProperties.Algorithm.ARGON2.id(), argon2(
+                        properties.argon2Memory(), properties.argon2Iterations(), properties.argon2Parallelism())
+        ));
+        // Hashes guardados antes de existir el prefijo: BCrypt del costo por defecto
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return encoder;
+    }
+
+    public static BCryptPasswordEncoder bcrypt(int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * @param memory memoria en KiB
+     */
+    public static Argon2PasswordEncoder argon2(int memory, int iterations, int parallelism) {
+        return new Argon2PasswordEncoder(ARGON2_SALT_LENGTH, ARGON2_HASH_LENGTH, parallelism, memory, iterations);
+    }
 
     /**
      * Devuelve un nuevo UserRegistration con la contraseña encriptada.
      */
-    public static UserRegistration encryptPassword(UserRegistration user) {
-        String encryptedPassword = passwordEncoder.encode(user.password());
+    public UserRegistration encryptPassword(UserRegistration user) {
+        String encryptedPassword = hash(() -> passwordEncoder.encode(user.password()));
         return new UserRegistration(user.email(), encryptedPassword, user.name(), user.phone());
     }
 
 
-    public static PasswordRecoveryRequest encryptPassword(PasswordRecoveryRequest passwordRecoveryRequest) {
-        String encryptedPassword = passwordEncoder.encode(passwordRecoveryRequest.password());
+    public PasswordRecoveryRequest encryptPassword(PasswordRecoveryRequest passwordRecoveryRequest) {
+        String encryptedPassword = hash(() -> passwordEncoder.encode(passwordRecoveryRequest.password()));
         return new PasswordRecoveryRequest(passwordRecoveryRequest.email(), passwordRecoveryRequest.otp(), encryptedPassword);
     }
 
-    public static boolean matches(String rawPassword, String encodedPassword) {
-        return passwordEncoder.matches(rawPassword, encodedPassword);
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return hash(() -> passwordEncoder.matches(rawPassword, encodedPassword));
     }
 
-}
+    /**
+     * Indica si el hash fue generado con otro algoritmo, sin prefijo o con un costo menor que
+     * el configurado. No calcula ningún hash.
+     */
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * Calcula el hash de la contraseña con la configuración actual sin esperar el resultado.
+     *
+     * @return el hash, o un futuro fallido con {@link PasswordHashingUnavailableException}
+     *         si la cola del pool está llena
+     */
+    public CompletableFuture<String> encodeAsync(String rawPassword) {
+        try {
+            return submit(() -> passwordEncoder.encode(rawPassword));
+        } catch (PasswordHashingUnavailableException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
+    /**
+     * Ejecuta el cálculo en el executor de hashing y espera su resultado,
+     * propagando las excepciones originales.
+     *
+     * @throws PasswordHashingUnavailableException si la cola del pool está llena
+     */
+    private <T> T hash(Supplier<T> task) {
+        CompletableFuture<T> future = submit(task);
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, hashingExecutor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("⚠️ Pool de hashing de contraseñas saturado, petición rechazada");
+            throw new PasswordHashingUnavailableException(
+                    "El servicio está atendiendo demasiadas solicitudes de autenticación, intente de nuevo más tarde",
+                    retryAfter);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.uniquindio.userservice.util;
+
+import java.time.Duration;
+
+/**
+ * Estado de los límites de peticiones, usado por
+ * {@link com.uniquindio.userservice.aspect.RateLimitAspect}.
+ *
+ * <p>Por defecto se usa {@link InMemoryRateLimitStore}, que limita cada réplica por separado:
+ * con N réplicas detrás de un balanceador, un cliente puede hacer hasta N veces el límite.
+ * Para compartir el estado entre réplicas basta con declarar otro bean de este tipo (por
+ * ejemplo, sobre Redis con un script que aplique el mismo algoritmo de forma atómica).</p>
+ */
+public interface RateLimitStore {
+
+    /**
+     * Consume un permiso del bucket de {@code key} si queda alguno.
+     *
+     * @param key   identificador del bucket (acción, ámbito y email o IP)
+     * @param limit límite aplicado al bucket
+     * @return si la petición se admite y el estado del bucket después de la llamada
+     */
+    Decision tryAcquire(String key, RateLimit limit);
+
+    /**
+     * Límite de un token bucket: admite ráfagas de hasta {@code capacity} peticiones y se
+     * rellena por completo en {@code period}, a ritmo constante.
+     */
+    record RateLimit(int capacity, Duration period) {
+
+        /**
+         * @return nanosegundos entre la recarga de dos permisos
+         */
+        public long emissionIntervalNanos() {
+            return period.toNanos() / capacity;
+        }
+    }
+
+    /**
+     * @param allowed    si la petición se admite
+     * @param limit      capacidad del bucket
+     * @param remaining  permisos que quedan
+     * @param reset      tiempo hasta que el bucket vuelva a estar lleno
+     * @param retryAfter tiempo hasta el próximo permiso; cero si la petición se admitió
+     */
+    record Decision(boolean allowed, int limit, int remaining, Duration reset, Duration retryAfter) {
+    }
+}
@@ -0,0 +1,74 @@
+package com.uniquindio.userservice.util;
+
+import java.time.Instant;
+
+/**
+ * Almacenamiento de refresh tokens, usado por {@link RefreshTokenUtils}.
+ *
+ * <p>Por defecto se usa {@link InMemoryRefreshTokenStore}; para que los tokens sobrevivan a un
+ * reinicio o se compartan entre instancias basta con declarar otro bean de este tipo (por
+ * ejemplo, respaldado por el servicio de datos o por Redis). El almacén nunca recibe el token,
+ * solo su SHA-256 en Base64url.</p>
+ *
+ * <p>Todos los tokens emitidos a partir de un mismo login forman una <em>familia</em>. Cada
+ * token se puede usar una sola vez: al usarlo se marca como consumido y se emite el siguiente
+ * de la familia. Presentar un token ya consumido indica que fue robado (o que el cliente lo
+ * reutilizó), y en ese caso se revoca la familia completa. Todos los tokens de una familia
+ * vencen en el mismo instante, fijado en el login.</p>
+ */
+public interface RefreshTokenStore {
+
+    /**
+     * Guarda un token nuevo, aún no consumido.
+     */
+    void save(String tokenHash, RefreshToken token);
+
+    /**
+     * Marca el token como consumido de forma atómica: de dos llamadas concurrentes con el mismo
+     * token, solo una obtiene {@link Status#ACTIVE}.
+     *
+     * @return el estado que tenía el token antes de la llamada
+     */
+    Consumption consume(String tokenHash);
+
+    /**
+     * Revoca todos los tokens de la familia, consumidos o no.
+     */
+    void revokeFamily(String familyId);
+
+    /**
+     * Revoca todas las familias del usuario iniciadas hasta este momento (cambio o recuperación
+     * de contraseña, eliminación de la cuenta). Los logins posteriores no se ven afectados.
+     */
+    void revokeUser(int userId);
+
+    /**
+     * Datos asociados a un refresh token.
+     *
+     * @param familyId  familia a la que pertenece (una por login)
+     * @param userId    id del usuario
+     * @param email     email del usuario al emitir el token
+     * @param issuedAt  instante del login que inició la familia
+     * @param expiresAt instante en que vence la familia; no cambia al rotar
+     */
+    record RefreshToken(String familyId, int userId, String email, Instant issuedAt, Instant expiresAt) {
+    }
+
+    enum Status {
+        /** El token estaba vigente y acaba de consumirse. */
+        ACTIVE,
+        /** El token ya se había consumido: posible robo. */
+        REUSED,
+        /** El token no existe, venció o su familia o su usuario fueron revocados. */
+        INVALID
+    }
+
+    /**
+     * @param status estado del token antes de consumirlo
+     * @param token  datos del token; {@code null} si el estado es {@link Status#INVALID}
+     */
+    record Consumption(Status status, RefreshToken token) {
+
+        public static final Consumption INVALID = new Consumption(Status.INVALID, null);
+    }
+}
@@ -0,0 +1,115 @@
+package com.uniquindio.userservice.util;
+
+import com.uniquindio.userservice.config.RefreshTokenProperties;
+import com.uniquindio.userservice.exception.authException.InvalidRefreshTokenException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Emisión y rotación de refresh tokens opacos.
+ *
+ * <p>Un refresh token son 256 bits aleatorios en Base64url, sin datos del usuario. Canjearlo
+ * requiere una búsqueda en el {@link RefreshTokenStore}, verificar que la cuenta siga activa y
+ * firmar un JWT nuevo; no ejecuta BCrypt, a diferencia del login.</p>
+ *
+ * <p>Cada token se usa una sola vez. Si se presenta un token ya consumido se revoca toda su
+ * familia, de modo que tanto quien lo robó como el cliente legítimo deben volver a iniciar
+ * sesión. La rotación conserva el vencimiento de la familia: una sesión dura a lo sumo
+ * {@code jwt.refresh-token.ttl} desde el login, aunque se renueve. Al cambiar la contraseña o
+ * eliminar la cuenta se revocan todas las familias del usuario con {@link #revokeAll(int)}.</p>
+ */
+@Component
+@Slf4j
+public class RefreshTokenUtils {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final Base64.Encoder BASE64URL = Base64.getUrlEncoder().withoutPadding();
+
+    private final SecureRandom random = new SecureRandom();
+    private final RefreshTokenStore store;
+    private final Duration ttl;
+
+    public RefreshTokenUtils(RefreshTokenStore store, RefreshTokenProperties properties) {
+        this.store = store;
+        this.ttl = properties.ttl();
+    }
+
+    /**
+     * Emite el primer refresh token de una familia nueva, tras un login.
+     */
+    public String issue(int userId, String email) {
+        Instant now = Instant.now();
+        return issue(new RefreshTokenStore.RefreshToken(UUID.randomUUID().toString(), userId, email, now, now.plus(ttl)));
+    }
+
+    /**
+     * Emite el siguiente refresh token de la familia de {@code previous}, con el mismo vencimiento.
+     *
+     * @param email email actual del usuario, que puede haber cambiado desde el login
+     */
+    public String rotate(RefreshTokenStore.RefreshToken previous, String email) {
+        return issue(new RefreshTokenStore.RefreshToken(previous.familyId(), previous.userId(), email,
+                previous.issuedAt(), previous.expiresAt()));
+    }
+
+    /**
+     * Revoca todos los refresh tokens emitidos hasta ahora al usuario.
+     */
+    public void revokeAll(int userId) {
+        store.revokeUser(userId);
+        log.info("🔒 Refresh tokens del usuario {} revocados", userId);
+    }
+
+    /**
+     * Consume un refresh token.
+     *
+     * @return los datos del token, que ya no puede volver a usarse
+     * @throws InvalidRefreshTokenException si el token no existe, venció, fue revocado o ya se había usado
+     */
+    public RefreshTokenStore.RefreshToken consume(String token) {
+        RefreshTokenStore.Consumption consumption = store.consume(hash(token));
+        switch (consumption.status()) {
+            case ACTIVE -> {
+                RefreshTokenStore.RefreshToken refreshToken = consumption.token();
+                if (refreshToken.expiresAt().isBefore(Instant.now())) {
+                    throw new InvalidRefreshTokenException("El refresh token expiró");
+                }
+                return refreshToken;
+            }
+            case REUSED -> {
+                RefreshTokenStore.RefreshToken refreshToken = consumption.token();
+                log.warn("🚨 Refresh token reutilizado para el usuario {}: se revoca la familia {}",
+                        refreshToken.userId(), refreshToken.familyId());
+                store.revokeFamily(refreshToken.familyId());
+                throw new InvalidRefreshTokenException("El refresh token ya fue utilizado");
+            }
+            default -> throw new InvalidRefreshTokenException("El refresh token es inválido o expiró");
+        }
+    }
+
+    private String issue(RefreshTokenStore.RefreshToken refreshToken) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = BASE64URL.encodeToString(bytes);
+        store.save(hash(token), refreshToken);
+        return token;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return BASE64URL.encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible", e);
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.uniquindio.userservice.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.uniquindio.userservice.dto.CursorUserResponse;
+import com.uniquindio.userservice.dto.PaginatedUserResponse;
+import com.uniquindio.userservice.dto.RawJson;
+import com.uniquindio.userservice.dto.UserResponse;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Calcula ETags para las respuestas de usuarios.
+ *
+ * <p>El ETag es un SHA-256 (truncado a 128 bits) de los campos del DTO, no del JSON: se
+ * obtiene sin serializar la respuesta, así que un {@code If-None-Match} que coincide se
+ * responde con 304 sin generar el cuerpo. Dos respuestas con los mismos datos tienen siempre
+ * el mismo ETag, sin importar la instancia que las atienda.</p>
+ *
+ * <p>En modo pass-through ({@link #ofUser(RawJson)}, {@link #ofUserPage(RawJson)}) se leen los
+ * mismos campos del JSON con el parser de streaming de Jackson y se codifican igual, así que un
+ * usuario tiene el mismo ETag con o sin pass-through, y tanto si sus bytes vienen del servicio de
+ * datos como de la caché. Como el JSON puede diferir byte a byte (orden o campos adicionales del
+ * servicio de datos), los ETags de usuarios son débiles ({@code W/"..."}); la comparación de
+ * {@code If-None-Match} en un GET es débil, así que el 304 funciona igual.</p>
+ *
+ * <p>Las respuestas llevan {@code Cache-Control: private, no-cache}: el cliente puede guardarlas,
+ * pero debe revalidarlas con el ETag en cada uso.</p>
+ *
+ * <p>Cada campo se escribe con su longitud como prefijo para que valores distintos no
+ * produzcan la misma secuencia (por ejemplo {@code "ab" + "c"} y {@code "a" + "bc"}).</p>
+ */
+public final class ResourceETags {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final HexFormat HEX = HexFormat.of();
+    private static final int ETAG_BYTES = 16;
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ResourceETags() {
+    }
+
+    /**
+     * Respuesta 200 con ETag. Si la petición es un GET con {@code If-None-Match} igual al ETag,
+     * Spring MVC la convierte en 304 sin escribir el cuerpo.
+     */
+    public static <T> ResponseEntity<T> conditionalOk(T body, String eTag) {
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE)
+                .body(body);
+    }
+
+    /**
+     * @return el ETag de un usuario, entre comillas
+     */
+    public static String of(UserResponse user) {
+        MessageDigest digest = sha256();
+        update(digest, fields(user));
+        return weak(digest);
+    }
+
+    /**
+     * @return el ETag de una página de usuarios, incluyendo sus metadatos de paginación
+     */
+    public static String of(PaginatedUserResponse page) {
+        MessageDigest digest = sha256();
+        update(digest, "page");
+        update(digest, page.totalItems() + ":" + page.totalPages() + ":" + page.currentPage() + ":" + page.pageSize());
+        update(digest, page.users());
+        return weak(digest);
+    }
+
+    /**
+     * @return el ETag de una página de usuarios por cursor
+     */
+    public static String of(CursorUserResponse page) {
+        MessageDigest digest = sha256();
+        update(digest, "cursor");
+        update(digest, page.pageSize() + ":" + page.nextCursor());
+        update(digest, page.users());
+        return weak(digest);
+    }
+
+    /**
+     * @return el ETag de un {@link UserResponse} reenviado como JSON, igual al de {@link #of(UserResponse)}
+     * @throws DecodingException si el JSON no es un objeto válido
+     */
+    public static String ofUser(RawJson json) {
+        try (JsonParser parser = parser(json)) {
+            MessageDigest digest = sha256();
+            update(digest, readUser(parser, parser.nextToken()));
+            return weak(digest);
+        } catch (IOException e) {
+            throw invalidJson(e);
+        }
+    }
+
+    /**
+     * @return el ETag de un {@link PaginatedUserResponse} reenviado como JSON, igual al de
+     *         {@link #of(PaginatedUserResponse)}
+     * @throws DecodingException si el JSON no es un objeto válido
+     */
+    public static String ofUserPage(RawJson json) {
+        try (JsonParser parser = parser(json)) {
+            expectObject(parser.nextToken());
+            int totalItems = 0;
+            int totalPages = 0;
+            int currentPage = 0;
+            int pageSize = 0;
+            // Los usuarios se guardan para codificarlos después de los metadatos, en el orden del DTO
+            List<String[]> users = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "totalItems" -> totalItems = parser.getValueAsInt();
+                    case "totalPages" -> totalPages = parser.getValueAsInt();
+                    case "currentPage" -> currentPage = parser.getValueAsInt();
+                    case "pageSize" -> pageSize = parser.getValueAsInt();
+                    case "users" -> users = readUsers(parser, value);
+                    default -> parser.skipChildren();
+                }
+            }
+            MessageDigest digest = sha256();
+            update(digest, "page");
+            update(digest, totalItems + ":" + totalPages + ":" + currentPage + ":" + pageSize);
+            updateFields(digest, users);
+            return weak(digest);
+        } catch (IOException e) {
+            throw invalidJson(e);
+        }
+    }
+
+    /**
+     * @return ETag fuerte de un documento que siempre se envía con los mismos bytes
+     */
+    public static String of(byte[] json) {
+        MessageDigest digest = sha256();
+        digest.update(json);
+        return '"' + hex(digest) + '"';
+    }
+
+    private static void update(MessageDigest digest, List<UserResponse> users) {
+        updateFields(digest, users == null ? null : users.stream().map(ResourceETags::fields).toList());
+    }
+
+    private static void updateFields(MessageDigest digest, List<String[]> users) {
+        if (users == null) {
+            update(digest, (String) null);
+            return;
+        }
+        update(digest, Integer.toString(users.size()));
+        for (String[] user : users) {
+            update(digest, user);
+        }
+    }
+
+    /**
+     * Campos de un usuario que entran en el ETag, en el orden en que se codifican.
+     */
+    private static String[] fields(UserResponse user) {
+        return new String[]{
+                Integer.toString(user.id()),
+                user.name(),
+                user.email(),
+                user.phone(),
+                user.account_status() != null ? user.account_status().name() : null
+        };
+    }
+
+    /**
+     * Lee un usuario con los mismos campos y valores por defecto que Jackson al crear el
+     * {@link UserResponse}: los campos desconocidos se ignoran y un {@code id} ausente vale 0.
+     */
+    private static String[] readUser(JsonParser parser, JsonToken token) throws IOException {
+        expectObject(token);
+        String[] fields = {"0", null, null, null, null};
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "id" -> fields[0] = Integer.toString(parser.getValueAsInt());
+                case "name" -> fields[1] = parser.getValueAsString();
+                case "email" -> fields[2] = parser.getValueAsString();
+                case "phone" -> fields[3] = parser.getValueAsString();
+                case "account_status" -> fields[4] = parser.getValueAsString();
+                default -> parser.skipChildren();
+            }
+        }
+        return fields;
+    }
+
+    private static List<String[]> readUsers(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw new DecodingException("Se esperaba una lista de usuarios");
+        }
+        List<String[]> users = new ArrayList<>();
+        JsonToken next;
+        while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+            users.add(readUser(parser, next));
+        }
+        return users;
+    }
+
+    private static void update(MessageDigest digest, String[] fields) {
+        for (String field : fields) {
+            update(digest, field);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) 1);
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+
+    private static String weak(MessageDigest digest) {
+        return "W/\"" + hex(digest) + '"';
+    }
+
+    private static String hex(MessageDigest digest) {
+        return HEX.formatHex(digest.digest(), 0, ETAG_BYTES);
+    }
+
+    private static JsonParser parser(RawJson json) throws IOException {
+        return JSON_FACTORY.createParser(json.bytes(), json.offset(), json.length());
+    }
+
+    private static void expectObject(JsonToken token) {
+        if (token != JsonToken.START_OBJECT) {
+            throw new DecodingException("Se esperaba un objeto JSON");
+        }
+    }
+
+    private static DecodingException invalidJson(IOException e) {
+        return new DecodingException("JSON inválido al calcular el ETag: " + e.getMessage(), e);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no está disponible", e);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.uniquindio.userservice.util;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+
+import java.security.Key;
+import java.security.KeyException;
+import java.security.interfaces.ECKey;
+import java.security.interfaces.EdECKey;
+import java.security.interfaces.RSAKey;
+
+/**
+ * Algoritmos de firma admitidos para los JWT. El algoritmo de cada llave se deduce de su tipo.
+ *
+ * @see KeyRing
+ */
+public enum SigningAlgorithm {
+
+    /** RSA PKCS#1 v1.5 con SHA-256; llaves de 2048 bits o más. */
+    RS256(Jwts.SIG.RS256, "SHA256withRSA"),
+
+    /** ECDSA sobre la curva P-256 con SHA-256. */
+    ES256(Jwts.SIG.ES256, "SHA256withECDSA"),
+
+    /** EdDSA con Ed25519. */
+    EDDSA(Jwts.SIG.EdDSA, "Ed25519");
+
+    private final SignatureAlgorithm jwsAlgorithm;
+    private final String jcaName;
+
+    SigningAlgorithm(SignatureAlgorithm jwsAlgorithm, String jcaName) {
+        this.jwsAlgorithm = jwsAlgorithm;
+        this.jcaName = jcaName;
+    }
+
+    /**
+     * @return el algoritmo de jjwt para firmar
+     */
+    public SignatureAlgorithm jwsAlgorithm() {
+        return jwsAlgorithm;
+    }
+
+    /**
+     * @return el nombre del parámetro {@code alg} (RFC 7518), p. ej. {@code ES256}
+     */
+    public String jwsName() {
+        return jwsAlgorithm.getId();
+    }
+
+    /**
+     * @return el nombre del algoritmo en {@link java.security.Signature}
+     */
+    public String jcaName() {
+        return jcaName;
+    }
+
+    /**
+     * Algoritmo con el que firma una llave, según su tipo.
+     *
+     * @throws KeyException si el tipo o la curva de la llave no están admitidos
+     */
+    public static SigningAlgorithm of(Key key) throws KeyException {
+        if (key instanceof RSAKey) {
+            return RS256;
+        }
+        if (key instanceof ECKey ecKey && ecKey.getParams().getCurve().getField().getFieldSize() == 256) {
+            return ES256;
+        }
+        if (key instanceof EdECKey edKey && "Ed25519".equals(edKey.getParams().getName())) {
+            return EDDSA;
+        }
+        throw new KeyException("Llave no admitida para firmar JWT: " + key.getAlgorithm()
+                + " (se admiten RSA, EC P-256 y Ed25519)");
+    }
+}
@@ -0,0 +1,54 @@
+package com.uniquindio.userservice.util;
+
+import com.uniquindio.userservice.exception.userException.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Codifica el cursor de la paginación de usuarios.
+ *
+ * <p>El cursor es el id del último usuario de la página, en Base64 URL-safe con un prefijo de
+ * versión. Para el cliente es opaco: así se puede cambiar la clave de ordenamiento sin romper
+ * el contrato de la API.</p>
+ */
+public final class UserCursorCodec {
+
+    private static final String PREFIX = "u:";
+
+    private UserCursorCodec() {
+    }
+
+    /**
+     * @return el cursor que apunta después del usuario indicado, o {@code null} si no hay más páginas
+     */
+    public static String encode(Integer lastId) {
+        if (lastId == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return el id del último usuario visto; {@code 0} si el cursor está vacío (primera página)
+     * @throws InvalidCursorException si el cursor no fue generado por {@link #encode(Integer)}
+     */
+    public static int decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            if (value.startsWith(PREFIX)) {
+                int lastId = Integer.parseInt(value.substring(PREFIX.length()));
+                if (lastId >= 0) {
+                    return lastId;
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            // Base64 o número inválido: se reporta igual que un prefijo desconocido
+        }
+        throw new InvalidCursorException("El cursor de paginación no es válido.");
+    }
+}
@@ -0,0 +1,200 @@
+package com.uniquindio.userservice.util;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Recuperación y confirmación del {@link OutboxLog}. Los segmentos de 64 bytes admiten dos
+ * registros de 20 bytes (28 con el encabezado) más la marca de cierre, así que el tercer
+ * registro siempre abre un segmento nuevo.
+ */
+class OutboxLogTest {
+
+    private static final int SEGMENT_SIZE = 64;
+    private static final int RECORD_SIZE = 20;
+    private static final int FRAME_SIZE = OutboxLog.HEADER_SIZE + RECORD_SIZE;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void descartaElRegistroIncompletoAlRecuperar() throws IOException {
+        try (OutboxLog outbox = OutboxLog.open(directory, 256, false)) {
+            outbox.append(record(1));
+            outbox.append(record(2));
+        }
+        // Escritura a medias del tercer registro: longitud escrita, CRC y datos no
+        writeInt(segment(0), 2 * FRAME_SIZE, RECORD_SIZE);
+        writeInt(segment(0), 2 * FRAME_SIZE + 4, 0xBADC0DE);
+
+        try (OutboxLog outbox = OutboxLog.open(directory, 256, false)) {
+            assertEquals(2 * FRAME_SIZE, outbox.endOffset());
+            assertRecords(outbox.read(0, 10), 1, 2);
+
+            outbox.append(record(3));
+            assertRecords(outbox.read(0, 10), 1, 2, 3);
+        }
+    }
+
+    @Test
+    void descartaDesdeElPrimerRegistroConCrcInvalido() throws IOException {
+        try (OutboxLog outbox = OutboxLog.open(directory, 256, false)) {
+            outbox.append(record(1));
+            outbox.append(record(2));
+            outbox.append(record(3));
+        }
+        // Datos del segundo registro dañados: el tercero tampoco se entrega
+        writeInt(segment(0), FRAME_SIZE + OutboxLog.HEADER_SIZE, 0);
+
+        try (OutboxLog outbox = OutboxLog.open(directory, 256, false)) {
+            assertEquals(FRAME_SIZE, outbox.endOffset());
+            assertRecords(outbox.read(0, 10), 1);
+
+            outbox.append(record(4));
+            assertRecords(outbox.read(0, 10), 1, 4);
+        }
+    }
+
+    @Test
+    void creaElSegmentoSiguienteSiLaCaidaFueDespuesDeCerrarElSegmento() throws IOException {
+        try (OutboxLog outbox = OutboxLog.open(directory, SEGMENT_SIZE, false)) {
+            outbox.append(record(1));
+            outbox.append(record(2));
+        }
+        // Marca de cierre escrita, segmento siguiente sin crear
+        writeInt(segment(0), 2 * FRAME_SIZE, -1);
+        assertFalse(Files.exists(segment(SEGMENT_SIZE)));
+
+        try (OutboxLog outbox = OutboxLog.open(directory, SEGMENT_SIZE, false)) {
+            assertEquals(SEGMENT_SIZE, outbox.endOffset());
+            assertEquals(2, outbox.segmentCount());
+            assertTrue(Files.exists(segment(SEGMENT_SIZE)));
+
+            assertEquals(SEGMENT_SIZE, outbox.append(record(3)));
+            assertRecords(outbox.read(0, 10), 1, 2, 3);
+        }
+    }
+
+    @Test
+    void reenviaTodoSiElOffsetConfirmadoEstaCorrupto() throws IOException {
+        try (OutboxLog outbox = OutboxLog.open(directory, 256, false)) {
+            outbox.append(record(1));
+            outbox.append(record(2));
+            outbox.commit(FRAME_SIZE);
+        }
+        // Complemento que no corresponde al offset: escritura a medias del archivo
+        writeInt(directory.resolve("committed.offset"), 8, 0);
+
+        try (OutboxLog outbox = OutboxLog.open(directory, 256, false)) {
+            assertEquals(0, outbox.committedOffset());
+            assertRecords(outbox.read(0, 10), 1, 2);
+        }
+    }
+
+    @Test
+    void conOffsetCorruptoEmpiezaEnElPrimerSegmentoQueQueda() throws IOException {
+        try (OutboxLog outbox = OutboxLog.open(directory, SEGMENT_SIZE, false)) {
+            for (int i = 1; i <= 4; i++) {
+                outbox.append(record(i));
+            }
+            outbox.commit(SEGMENT_SIZE + FRAME_SIZE);
+        }
+        writeInt(directory.resolve("committed.offset"), 0, 7);
+
+        try (OutboxLog outbox = OutboxLog.open(directory, SEGMENT_SIZE, false)) {
+            assertEquals(SEGMENT_SIZE, outbox.committedOffset());
+            assertRecords(outbox.read(0, 10), 3, 4);
+        }
+    }
+
+    @Test
+    void confirmaEntreSegmentos() throws IOException {
+        try (OutboxLog outbox = OutboxLog.open(directory, SEGMENT_SIZE, false)) {
+            for (int i = 1; i <= 5; i++) {
+                outbox.append(record(i));
+            }
+            assertEquals(3, outbox.segmentCount());
+
+            List<OutboxLog.Entry> entries = outbox.read(0, 10);
+            assertRecords(entries, 1, 2, 3, 4, 5);
+            assertEquals(SEGMENT_SIZE, entries.get(2).offset());
+            assertEquals(2 * SEGMENT_SIZE, entries.get(4).offset());
+
+            // Confirmar el primer registro del segundo segmento borra el primero
+            outbox.commit(entries.get(2).nextOffset());
+            assertEquals(2, outbox.segmentCount());
+            assertFalse(Files.exists(segment(0)));
+            assertRecords(outbox.read(outbox.committedOffset(), 10), 4, 5);
+
+            // El último registro del segundo segmento deja pendiente la marca de cierre, no el segmento
+            outbox.commit(entries.get(3).nextOffset());
+            assertEquals(2, outbox.segmentCount());
+            assertRecords(outbox.read(outbox.committedOffset(), 10), 5);
+        }
+
+        try (OutboxLog outbox = OutboxLog.open(directory, SEGMENT_SIZE, false)) {
+            assertEquals(SEGMENT_SIZE + 2 * FRAME_SIZE, outbox.committedOffset());
+            List<OutboxLog.Entry> entries = outbox.read(outbox.committedOffset(), 10);
+            assertRecords(entries, 5);
+
+            outbox.commit(entries.get(0).nextOffset());
+            assertEquals(1, outbox.segmentCount());
+            assertFalse(Files.exists(segment(SEGMENT_SIZE)));
+            assertTrue(outbox.read(outbox.committedOffset(), 10).isEmpty());
+            assertEquals(0, outbox.backlogBytes());
+        }
+    }
+
+    @Test
+    void noAbreUnDirectorioQueYaEstaAbierto() throws IOException {
+        try (OutboxLog outbox = OutboxLog.open(directory, SEGMENT_SIZE, false)) {
+            outbox.append(record(1));
+            assertThrows(IllegalStateException.class, () -> OutboxLog.open(directory, SEGMENT_SIZE, false));
+        }
+        try (OutboxLog outbox = OutboxLog.open(directory, SEGMENT_SIZE, false)) {
+            assertRecords(outbox.read(0, 10), 1);
+        }
+    }
+
+    @Test
+    void rechazaRegistrosVacios() throws IOException {
+        try (OutboxLog outbox = OutboxLog.open(directory, SEGMENT_SIZE, false)) {
+            assertThrows(IllegalArgumentException.class, () -> outbox.append(new byte[0]));
+            assertEquals(0, outbox.endOffset());
+        }
+    }
+
+    private static byte[] record(int value) {
+        byte[] data = new byte[RECORD_SIZE];
+        Arrays.fill(data, (byte) value);
+        return data;
+    }
+
+    private static void assertRecords(List<OutboxLog.Entry> entries, int... values) {
+        assertEquals(values.length, entries.size());
+        for (int i = 0; i < values.length; i++) {
+            assertArrayEquals(record(values[i]), entries.get(i).data());
+        }
+    }
+
+    private Path segment(long base) {
+        return directory.resolve(String.format("%020d.log", base));
+    }
+
+    private static void writeInt(Path file, long position, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4).putInt(0, value), position);
+        }
+    }
+}